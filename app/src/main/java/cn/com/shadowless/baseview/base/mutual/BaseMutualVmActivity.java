@@ -32,8 +32,9 @@ public abstract class BaseMutualVmActivity<VB extends ViewBinding> extends BaseV
         if (callBack != null) {
             callBack.showLoadView();
         }
-        AsyncViewBindingInflate<VB> asyncViewBindingInflate = new AsyncViewBindingInflate<>(this);
+        AsyncViewBindingInflate<VB> asyncViewBindingInflate = AsyncViewBindingInflate.obtain(this);
         asyncViewBindingInflate.inflate(initViewBindingGenericsClass(BaseMutualVmActivity.this), null,
+                AsyncViewBindingInflate.Priority.VISIBLE, BaseMutualVmActivity.this,
                 new AsyncViewBindingInflate.OnInflateFinishedListener<VB>() {
                     @Override
                     public void onInflateFinished(@NonNull VB binding, @Nullable ViewGroup parent) {
@@ -86,7 +87,7 @@ public abstract class BaseMutualVmActivity<VB extends ViewBinding> extends BaseV
                     }
                 });
         initModelListener();
-        initModelData();
-        initPermissionAndInitData(this);
+        //并行初始化数据时，等待后台部分完成后再申请权限
+        initModelData(() -> initPermissionAndInitData(this));
     }
 }
\ No newline at end of file
@@ -23,6 +23,16 @@ import cn.com.shadowless.baseview.utils.AsyncViewBindingInflate;
  */
 public abstract class BaseMutualVmFragment<VB extends ViewBinding> extends BaseVmFragment<VB> {
 
+    /**
+     * 双向等待依赖异步加载流程，不支持屏幕外预加载
+     *
+     * @return the boolean
+     */
+    @Override
+    protected final boolean isPrefetchSupport() {
+        return false;
+    }
+
     /**
      * 异步加载布局
      */
@@ -33,8 +43,9 @@ public abstract class BaseMutualVmFragment<VB extends ViewBinding> extends BaseV
         if (callBack != null) {
             callBack.showLoadView();
         }
-        AsyncViewBindingInflate<VB> asyncViewBindingInflate = new AsyncViewBindingInflate<>(getAttachActivity());
+        AsyncViewBindingInflate<VB> asyncViewBindingInflate = AsyncViewBindingInflate.obtain(getAttachActivity());
         asyncViewBindingInflate.inflate(initViewBindingGenericsClass(BaseMutualVmFragment.this), group,
+                getInflatePriority(BaseMutualVmFragment.this), getViewLifecycleOwner(),
                 new AsyncViewBindingInflate.OnInflateFinishedListener<VB>() {
                     @Override
                     public void onInflateFinished(@NonNull VB binding, @Nullable ViewGroup parent) {
@@ -87,7 +98,7 @@ public abstract class BaseMutualVmFragment<VB extends ViewBinding> extends BaseV
                     }
                 });
         initModelListener();
-        initModelData();
-        initPermissionAndInitData(this);
+        //并行初始化数据时，等待后台部分完成后再申请权限
+        initModelData(() -> initPermissionAndInitData(this));
     }
 }
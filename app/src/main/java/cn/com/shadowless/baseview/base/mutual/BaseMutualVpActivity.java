@@ -46,8 +46,9 @@ public abstract class BaseMutualVpActivity<VB extends ViewBinding> extends BaseV
         if (callBack != null) {
             callBack.showLoadView();
         }
-        AsyncViewBindingInflate<VB> asyncViewBindingInflate = new AsyncViewBindingInflate<>(this);
+        AsyncViewBindingInflate<VB> asyncViewBindingInflate = AsyncViewBindingInflate.obtain(this);
         asyncViewBindingInflate.inflate(initViewBindingGenericsClass(BaseMutualVpActivity.this), null,
+                AsyncViewBindingInflate.Priority.VISIBLE, BaseMutualVpActivity.this,
                 new AsyncViewBindingInflate.OnInflateFinishedListener<VB>() {
                     @Override
                     public void onInflateFinished(@NonNull VB binding, @Nullable ViewGroup parent) {
@@ -37,6 +37,16 @@ public abstract class BaseMutualVpFragment<VB extends ViewBinding> extends BaseV
         super.onResume();
     }
 
+    /**
+     * 双向等待依赖异步加载流程，不支持屏幕外预加载
+     *
+     * @return the boolean
+     */
+    @Override
+    protected final boolean isPrefetchSupport() {
+        return false;
+    }
+
     /**
      * 异步加载布局
      */
@@ -47,8 +57,9 @@ public abstract class BaseMutualVpFragment<VB extends ViewBinding> extends BaseV
         if (callBack != null) {
             callBack.showLoadView();
         }
-        AsyncViewBindingInflate<VB> asyncViewBindingInflate = new AsyncViewBindingInflate<>(getAttachActivity());
+        AsyncViewBindingInflate<VB> asyncViewBindingInflate = AsyncViewBindingInflate.obtain(getAttachActivity());
         asyncViewBindingInflate.inflate(initViewBindingGenericsClass(BaseMutualVpFragment.this), group,
+                getInflatePriority(BaseMutualVpFragment.this), getViewLifecycleOwner(),
                 new AsyncViewBindingInflate.OnInflateFinishedListener<VB>() {
                     @Override
                     public void onInflateFinished(@NonNull VB binding, @Nullable ViewGroup parent) {
@@ -4,23 +4,34 @@ import android.annotation.SuppressLint;
 import android.app.Dialog;
 import android.content.Context;
 import android.os.Bundle;
+import android.util.DisplayMetrics;
 import android.util.Log;
+import android.view.Choreographer;
+import android.view.Gravity;
 import android.view.MotionEvent;
+import android.view.VelocityTracker;
 import android.view.View;
+import android.view.ViewConfiguration;
 import android.view.ViewGroup;
 import android.view.Window;
 import android.view.WindowManager;
+import android.widget.FrameLayout;
 
+import androidx.annotation.MainThread;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.lifecycle.Lifecycle;
 import androidx.lifecycle.LifecycleOwner;
 import androidx.lifecycle.LifecycleRegistry;
 import androidx.viewbinding.ViewBinding;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
 
 import cn.com.shadowless.baseview.event.ViewPublicEvent;
 import cn.com.shadowless.baseview.lifecycle.BaseQuickLifecycle;
+import cn.com.shadowless.baseview.utils.AsyncViewBindingInflate;
 
 
 /**
@@ -58,8 +69,48 @@ public abstract class BaseDialog<VB extends ViewBinding> extends Dialog implemen
      */
     private boolean isResumed = false;
 
+    /**
+     * 是否正在异步加载布局
+     */
+    private boolean isInflating = false;
+
+    /**
+     * 是否已执行onCreate
+     */
+    private boolean isCreated = false;
+
+    /**
+     * 视图是否已初始化
+     */
+    private boolean isViewInit = false;
+
+    /**
+     * 是否等待视图初始化后执行initData
+     */
+    private boolean isInitDataPending = false;
+
+    /**
+     * 异步加载期间的占位容器
+     */
+    private FrameLayout placeholder;
+
+    /**
+     * The Call back.
+     */
+    private AsyncLoadViewCallBack callBack;
+
+    /**
+     * 预构建完成的回调
+     */
+    private final List<Runnable> preBuildCallbacks = new ArrayList<>();
+
     private boolean isLayoutListenerAdded = false;
 
+    /**
+     * 拖拽监听
+     */
+    private FloatingOnTouchListener floatingListener;
+
     private final View.OnLayoutChangeListener visibilityListener =
             (v, left, top, right, bottom, oldLeft, oldTop, oldRight, oldBottom) -> updateLifecycleFromVisibility();
 
@@ -97,6 +148,14 @@ public abstract class BaseDialog<VB extends ViewBinding> extends Dialog implemen
          * The Is drag.
          */
         private boolean isDrag;
+        /**
+         * 拖拽松手后是否惯性滑动
+         */
+        private boolean isFling;
+        /**
+         * 拖拽松手后是否吸附到左右边缘
+         */
+        private boolean isSnapEdge;
         /**
          * The Has shadow.
          */
@@ -196,6 +255,42 @@ public abstract class BaseDialog<VB extends ViewBinding> extends Dialog implemen
             isDrag = drag;
         }
 
+        /**
+         * Is fling boolean.
+         *
+         * @return the boolean
+         */
+        public boolean isFling() {
+            return isFling;
+        }
+
+        /**
+         * Sets fling.
+         *
+         * @param fling the fling
+         */
+        public void setFling(boolean fling) {
+            isFling = fling;
+        }
+
+        /**
+         * Is snap edge boolean.
+         *
+         * @return the boolean
+         */
+        public boolean isSnapEdge() {
+            return isSnapEdge;
+        }
+
+        /**
+         * Sets snap edge.
+         *
+         * @param snapEdge the snap edge
+         */
+        public void setSnapEdge(boolean snapEdge) {
+            isSnapEdge = snapEdge;
+        }
+
         /**
          * Is has shadow boolean.
          *
@@ -261,10 +356,13 @@ public abstract class BaseDialog<VB extends ViewBinding> extends Dialog implemen
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        isCreated = true;
         initObject(savedInstanceState);
         initDialogAttr();
         addVisibilityListener();
-        initEvent();
+        if (bind != null) {
+            initViewEvent();
+        }
     }
 
     @Override
@@ -278,12 +376,22 @@ public abstract class BaseDialog<VB extends ViewBinding> extends Dialog implemen
     @Override
     protected void onStop() {
         super.onStop();
+        if (floatingListener != null) {
+            floatingListener.stop();
+        }
         if (lifecycleRegistry.getCurrentState().isAtLeast(Lifecycle.State.STARTED)) {
             handleLifecycleEvent(Lifecycle.Event.ON_STOP);
             isResumed = false;
         }
     }
 
+    @Override
+    public void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        //复用的弹窗不会再次执行onCreate，每次显示时重新注册
+        addVisibilityListener();
+    }
+
     @Override
     public void onDetachedFromWindow() {
         if (isLayoutListenerAdded && window != null) {
@@ -295,6 +403,10 @@ public abstract class BaseDialog<VB extends ViewBinding> extends Dialog implemen
 
     @Override
     public void show() {
+        //构造中子类字段尚未初始化，异步加载在首次显示时开始，需更早开始请调用preBuild
+        if (!isCreated && isAsyncLoad()) {
+            asyncInitView();
+        }
         super.show();
         if (lifecycleRegistry.getCurrentState() == Lifecycle.State.CREATED) {
             handleLifecycleEvent(Lifecycle.Event.ON_START);
@@ -302,22 +414,66 @@ public abstract class BaseDialog<VB extends ViewBinding> extends Dialog implemen
             isResumed = true;
         }
         initDialog();
-        initData();
+        if (isViewInit) {
+            initData();
+        } else {
+            isInitDataPending = true;
+        }
     }
 
+    /**
+     * 关闭Dialog
+     * <p>
+     * 复用模式下只回到CREATED状态，保留视图和监听，可再次show；否则直接销毁。
+     * </p>
+     */
     @Override
     public void dismiss() {
-        if (lifecycleRegistry.getCurrentState().isAtLeast(Lifecycle.State.RESUMED)) {
-            handleLifecycleEvent(Lifecycle.Event.ON_PAUSE);
-            isResumed = false;
+        if (isReusable()) {
+            stopLifecycle();
+            super.dismiss();
+            return;
         }
-        if (lifecycleRegistry.getCurrentState().isAtLeast(Lifecycle.State.STARTED)) {
-            handleLifecycleEvent(Lifecycle.Event.ON_STOP);
+        destroy();
+    }
+
+    /**
+     * 销毁Dialog
+     * <p>
+     * 宿主销毁时自动调用，销毁后不可再次显示。
+     * </p>
+     */
+    @MainThread
+    public void destroy() {
+        if (getObserveLifecycleOwner() != null) {
+            getObserveLifecycleOwner().getLifecycle().removeObserver(this);
         }
+        stopLifecycle();
         handleLifecycleEvent(Lifecycle.Event.ON_DESTROY);
         super.dismiss();
     }
 
+    /**
+     * 是否复用
+     * <p>
+     * 开启后dismiss不销毁Dialog，再次show时无需重新创建和加载布局，宿主销毁时才真正销毁。
+     * </p>
+     *
+     * @return the boolean
+     */
+    public boolean isReusable() {
+        return false;
+    }
+
+    /**
+     * 是否已销毁
+     *
+     * @return the boolean
+     */
+    public boolean isDestroyed() {
+        return lifecycleRegistry.getCurrentState() == Lifecycle.State.DESTROYED;
+    }
+
     @NonNull
     @Override
     public Lifecycle getLifecycle() {
@@ -335,10 +491,7 @@ public abstract class BaseDialog<VB extends ViewBinding> extends Dialog implemen
     @Override
     public void onStateChanged(@NonNull LifecycleOwner source, @NonNull Lifecycle.Event event) {
         if (event == Lifecycle.Event.ON_DESTROY) {
-            if (getObserveLifecycleOwner() != null) {
-                getObserveLifecycleOwner().getLifecycle().removeObserver(this);
-            }
-            this.dismiss();
+            destroy();
         }
     }
 
@@ -359,14 +512,128 @@ public abstract class BaseDialog<VB extends ViewBinding> extends Dialog implemen
         initDataListener();
     }
 
+    /**
+     * 同步加载布局
+     */
     @Override
     public void syncInitView() {
-
+        if (bind != null) {
+            return;
+        }
+        try {
+            bind = inflateView(this, getLayoutInflater());
+        } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
+            throw new RuntimeException("视图无法反射初始化，若动态布局请检查setBindViewClass是否传入或重写inflateView手动实现ViewBinding创建" + Log.getStackTraceString(e));
+        }
     }
 
+    /**
+     * 异步加载布局
+     * <p>
+     * 开启异步加载时在首次show或preBuild时调用，未完成前显示时先填充占位容器，完成后再添加视图并执行initEvent。
+     * 使用Dialog自身带主题的Context加载，布局中的主题属性按Dialog主题解析。
+     * </p>
+     */
     @Override
     public void asyncInitView() {
+        if (bind != null || isInflating) {
+            return;
+        }
+        isInflating = true;
+        AsyncViewBindingInflate<VB> asyncViewBindingInflate = new AsyncViewBindingInflate<>(getContext());
+        asyncViewBindingInflate.inflate(initViewBindingGenericsClass(BaseDialog.this), null,
+                AsyncViewBindingInflate.Priority.VISIBLE, getObserveLifecycleOwner(),
+                new AsyncViewBindingInflate.OnInflateFinishedListener<VB>() {
+                    @Override
+                    public void onInflateFinished(@NonNull VB binding, @Nullable ViewGroup parent) {
+                        isInflating = false;
+                        bind = binding;
+                        onBindingReady();
+                    }
+
+                    @Override
+                    public void onInflateError(Exception e) {
+                        isInflating = false;
+                        if (callBack != null) {
+                            callBack.dismissLoadView();
+                        }
+                        throw new RuntimeException("异步加载视图错误：\n" + Log.getStackTraceString(e));
+                    }
+                });
+    }
+
+    /**
+     * 预构建视图
+     * <p>
+     * 在show之前异步加载布局，完成后show不再需要加载布局，已加载完成时直接回调。
+     * </p>
+     *
+     * @param onReady 加载完成后的回调
+     */
+    @MainThread
+    public void preBuild(@Nullable Runnable onReady) {
+        if (bind != null) {
+            if (onReady != null) {
+                onReady.run();
+            }
+            return;
+        }
+        if (onReady != null) {
+            preBuildCallbacks.add(onReady);
+        }
+        asyncInitView();
+    }
+
+    /**
+     * 异步加载完成
+     */
+    private void onBindingReady() {
+        List<Runnable> callbacks = new ArrayList<>(preBuildCallbacks);
+        preBuildCallbacks.clear();
+        for (Runnable callback : callbacks) {
+            callback.run();
+        }
+        //未显示过，由onCreate直接填充
+        if (!isCreated) {
+            return;
+        }
+        View view = bind.getRoot();
+        if (callBack != null) {
+            callBack.dismissLoadView();
+            callBack.startAsyncAnimSetView(view, new AsyncLoadViewAnimCallBack() {
+                @Override
+                public void animStart() {
+                    placeholder.addView(view);
+                    if (callBack.isInitEventOnAnimStart()) {
+                        initViewEvent();
+                    }
+                }
+
+                @Override
+                public void animEnd() {
+                    if (!callBack.isInitEventOnAnimStart()) {
+                        initViewEvent();
+                    }
+                }
+            });
+            return;
+        }
+        placeholder.addView(view);
+        initViewEvent();
+    }
 
+    /**
+     * 初始化视图事件，显示时视图未就绪的initData在此补充执行
+     */
+    private void initViewEvent() {
+        initEvent();
+        isViewInit = true;
+        if (isInitDataPending) {
+            isInitDataPending = false;
+            if (isShowing()) {
+                initData();
+            }
+        }
     }
 
     @Override
@@ -402,6 +669,19 @@ public abstract class BaseDialog<VB extends ViewBinding> extends Dialog implemen
         }
     }
 
+    /**
+     * 生命周期回到CREATED
+     */
+    private void stopLifecycle() {
+        if (lifecycleRegistry.getCurrentState().isAtLeast(Lifecycle.State.RESUMED)) {
+            handleLifecycleEvent(Lifecycle.Event.ON_PAUSE);
+            isResumed = false;
+        }
+        if (lifecycleRegistry.getCurrentState().isAtLeast(Lifecycle.State.STARTED)) {
+            handleLifecycleEvent(Lifecycle.Event.ON_STOP);
+        }
+    }
+
     /**
      * Handle lifecycle event.
      *
@@ -423,15 +703,23 @@ public abstract class BaseDialog<VB extends ViewBinding> extends Dialog implemen
         //子类设置是否外部关闭
         this.setCanceledOnTouchOutside(setting.isCancelOutside());
         //动态创建/初始化顶层容器
-        try {
-            bind = inflateView(this, getLayoutInflater());
-        } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
-            throw new RuntimeException("视图无法反射初始化，若动态布局请检查setBindViewClass是否传入或重写inflateView手动实现ViewBinding创建" + Log.getStackTraceString(e));
+        if (!isInflating) {
+            syncInitView();
         }
         //是否清除边框
         if (setting.isClearPadding()) {
             window.getDecorView().setPadding(0, 0, 0, 0);
         }
+        if (bind == null) {
+            //异步加载未完成，先填充占位容器
+            placeholder = new FrameLayout(context);
+            this.setContentView(placeholder);
+            callBack = AsyncLoadView();
+            if (callBack != null) {
+                callBack.showLoadView();
+            }
+            return;
+        }
         //填充顶级容器
         this.setContentView(bind.getRoot());
     }
@@ -461,48 +749,348 @@ public abstract class BaseDialog<VB extends ViewBinding> extends Dialog implemen
             layoutParams.flags = flag;
         }
         if (setting.isDrag()) {
-            window.getDecorView().setOnTouchListener(new FloatingOnTouchListener());
+            if (floatingListener == null) {
+                floatingListener = new FloatingOnTouchListener();
+            }
+            window.getDecorView().setOnTouchListener(floatingListener);
         }
         window.setAttributes(layoutParams);
     }
 
     /**
-     * The type Floating on touch listener.
+     * 拖拽监听
+     * <p>
+     * 触摸事件只记录目标位置，由Choreographer在每个vsync最多更新一次窗口，
+     * 速度计算使用事件中的全部历史采样，松手后按配置惯性滑动并吸附到左右边缘。
+     * </p>
      */
-    private class FloatingOnTouchListener implements View.OnTouchListener {
+    private class FloatingOnTouchListener implements View.OnTouchListener, Choreographer.FrameCallback {
+        /**
+         * 空闲
+         */
+        private static final int MODE_IDLE = 0;
+        /**
+         * 拖拽中
+         */
+        private static final int MODE_DRAG = 1;
+        /**
+         * 惯性滑动中
+         */
+        private static final int MODE_FLING = 2;
+        /**
+         * 吸附中
+         */
+        private static final int MODE_SNAP = 3;
+        /**
+         * 惯性滑动摩擦系数，每秒速度衰减比例的指数
+         */
+        private static final float FLING_FRICTION = 4f;
+        /**
+         * 吸附速度，每秒靠近剩余距离的倍数
+         */
+        private static final float SNAP_SPEED = 12f;
+        /**
+         * 单帧最大时长，避免掉帧后位移跳变
+         */
+        private static final float MAX_FRAME_SECONDS = 0.05f;
+        /**
+         * 当前模式
+         */
+        private int mode = MODE_IDLE;
         /**
-         * The X.
+         * 上一次触摸的屏幕坐标
          */
-        private int x;
+        private float lastRawX;
         /**
-         * The Y.
+         * 上一次触摸的屏幕坐标
          */
-        private int y;
+        private float lastRawY;
+        /**
+         * 目标窗口位置
+         */
+        private float targetX;
+        /**
+         * 目标窗口位置
+         */
+        private float targetY;
+        /**
+         * 惯性速度，窗口坐标，单位像素每秒
+         */
+        private float velocityX;
+        /**
+         * 惯性速度，窗口坐标，单位像素每秒
+         */
+        private float velocityY;
+        /**
+         * 吸附目标
+         */
+        private float snapX;
+        /**
+         * 上一帧时间
+         */
+        private long lastFrameNanos;
+        /**
+         * 是否已请求下一帧
+         */
+        private boolean isFrameScheduled = false;
+        /**
+         * 速度追踪
+         */
+        private VelocityTracker velocityTracker;
+        /**
+         * 最小惯性速度
+         */
+        private final int minFlingVelocity;
+        /**
+         * 最大惯性速度
+         */
+        private final int maxFlingVelocity;
+
+        /**
+         * Instantiates a new Floating on touch listener.
+         */
+        FloatingOnTouchListener() {
+            ViewConfiguration configuration = ViewConfiguration.get(context);
+            minFlingVelocity = configuration.getScaledMinimumFlingVelocity();
+            maxFlingVelocity = configuration.getScaledMaximumFlingVelocity();
+        }
 
         @SuppressLint("ClickableViewAccessibility")
         @Override
         public boolean onTouch(View view, MotionEvent event) {
-            switch (event.getAction()) {
+            switch (event.getActionMasked()) {
                 case MotionEvent.ACTION_DOWN:
-                    x = (int) event.getRawX();
-                    y = (int) event.getRawY();
+                    stop();
+                    mode = MODE_DRAG;
+                    lastRawX = event.getRawX();
+                    lastRawY = event.getRawY();
+                    targetX = layoutParams.x;
+                    targetY = layoutParams.y;
+                    if (velocityTracker == null) {
+                        velocityTracker = VelocityTracker.obtain();
+                    } else {
+                        velocityTracker.clear();
+                    }
+                    addMovement(event);
                     break;
                 case MotionEvent.ACTION_MOVE:
-                    int nowX = (int) event.getRawX();
-                    int nowY = (int) event.getRawY();
-                    int movedX = nowX - x;
-                    int movedY = nowY - y;
-                    x = nowX;
-                    y = nowY;
-                    layoutParams.x = layoutParams.x + movedX;
-                    layoutParams.y = layoutParams.y + movedY;
-                    window.setAttributes(layoutParams);
+                    if (mode != MODE_DRAG) {
+                        break;
+                    }
+                    addMovement(event);
+                    float nowX = event.getRawX();
+                    float nowY = event.getRawY();
+                    targetX += getDirectionX() * (nowX - lastRawX);
+                    targetY += getDirectionY() * (nowY - lastRawY);
+                    lastRawX = nowX;
+                    lastRawY = nowY;
+                    scheduleFrame();
+                    break;
+                case MotionEvent.ACTION_UP:
+                case MotionEvent.ACTION_CANCEL:
+                    if (mode != MODE_DRAG) {
+                        break;
+                    }
+                    addMovement(event);
+                    onRelease();
                     break;
                 default:
                     break;
             }
             return false;
         }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            isFrameScheduled = false;
+            float seconds = lastFrameNanos == 0 ? 0 : Math.min(MAX_FRAME_SECONDS, (frameTimeNanos - lastFrameNanos) / 1e9f);
+            lastFrameNanos = frameTimeNanos;
+            switch (mode) {
+                case MODE_FLING:
+                    targetX += velocityX * seconds;
+                    targetY += velocityY * seconds;
+                    float decay = (float) Math.exp(-FLING_FRICTION * seconds);
+                    velocityX *= decay;
+                    velocityY *= decay;
+                    clampTarget();
+                    if (Math.hypot(velocityX, velocityY) < minFlingVelocity) {
+                        if (setting.isSnapEdge()) {
+                            startSnap();
+                        } else {
+                            mode = MODE_IDLE;
+                        }
+                    }
+                    break;
+                case MODE_SNAP:
+                    float distance = snapX - targetX;
+                    if (Math.abs(distance) <= 1) {
+                        targetX = snapX;
+                        mode = MODE_IDLE;
+                    } else {
+                        targetX += distance * Math.min(1f, SNAP_SPEED * seconds);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            applyTarget();
+            if (mode == MODE_FLING || mode == MODE_SNAP) {
+                scheduleFrame();
+            }
+        }
+
+        /**
+         * 停止动画并释放速度追踪
+         */
+        void stop() {
+            mode = MODE_IDLE;
+            if (isFrameScheduled) {
+                Choreographer.getInstance().removeFrameCallback(this);
+                isFrameScheduled = false;
+            }
+            if (velocityTracker != null) {
+                velocityTracker.recycle();
+                velocityTracker = null;
+            }
+        }
+
+        /**
+         * 松手后按速度决定惯性滑动或吸附
+         */
+        private void onRelease() {
+            velocityTracker.computeCurrentVelocity(1000, maxFlingVelocity);
+            velocityX = getDirectionX() * velocityTracker.getXVelocity();
+            velocityY = getDirectionY() * velocityTracker.getYVelocity();
+            velocityTracker.recycle();
+            velocityTracker = null;
+            if (setting.isFling() && Math.hypot(velocityX, velocityY) >= minFlingVelocity) {
+                mode = MODE_FLING;
+            } else if (setting.isSnapEdge()) {
+                startSnap();
+            } else {
+                mode = MODE_IDLE;
+            }
+            scheduleFrame();
+        }
+
+        /**
+         * 开始吸附到最近的左右边缘
+         */
+        private void startSnap() {
+            float[] range = getRangeX();
+            snapX = Math.abs(targetX - range[0]) <= Math.abs(range[1] - targetX) ? range[0] : range[1];
+            mode = MODE_SNAP;
+        }
+
+        /**
+         * 记录速度采样
+         * <p>
+         * 窗口随手指移动，事件坐标以窗口为参照，转换为屏幕坐标后再记录，历史采样一并转换。
+         * </p>
+         *
+         * @param event the event
+         */
+        private void addMovement(MotionEvent event) {
+            MotionEvent copy = MotionEvent.obtain(event);
+            copy.offsetLocation(event.getRawX() - event.getX(), event.getRawY() - event.getY());
+            velocityTracker.addMovement(copy);
+            copy.recycle();
+        }
+
+        /**
+         * 请求下一帧
+         */
+        private void scheduleFrame() {
+            if (isFrameScheduled) {
+                return;
+            }
+            if (mode != MODE_DRAG) {
+                lastFrameNanos = 0;
+            }
+            isFrameScheduled = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+
+        /**
+         * 更新窗口位置，位置未变化时不触发重新布局
+         */
+        private void applyTarget() {
+            int x = Math.round(targetX);
+            int y = Math.round(targetY);
+            if (x == layoutParams.x && y == layoutParams.y) {
+                return;
+            }
+            layoutParams.x = x;
+            layoutParams.y = y;
+            window.setAttributes(layoutParams);
+        }
+
+        /**
+         * 限制在屏幕内，到达边缘时停止该方向的惯性
+         */
+        private void clampTarget() {
+            float[] rangeX = getRangeX();
+            float[] rangeY = getRangeY();
+            if (targetX < rangeX[0] || targetX > rangeX[1]) {
+                targetX = Math.max(rangeX[0], Math.min(rangeX[1], targetX));
+                velocityX = 0;
+            }
+            if (targetY < rangeY[0] || targetY > rangeY[1]) {
+                targetY = Math.max(rangeY[0], Math.min(rangeY[1], targetY));
+                velocityY = 0;
+            }
+        }
+
+        /**
+         * 窗口x可取范围，与对齐方式有关
+         *
+         * @return 最小值和最大值
+         */
+        private float[] getRangeX() {
+            DisplayMetrics metrics = context.getResources().getDisplayMetrics();
+            float free = Math.max(0, metrics.widthPixels - window.getDecorView().getWidth());
+            int gravity = getAbsoluteGravity() & Gravity.HORIZONTAL_GRAVITY_MASK;
+            return gravity == Gravity.CENTER_HORIZONTAL ? new float[]{-free / 2, free / 2} : new float[]{0, free};
+        }
+
+        /**
+         * 窗口y可取范围，与对齐方式有关
+         *
+         * @return 最小值和最大值
+         */
+        private float[] getRangeY() {
+            DisplayMetrics metrics = context.getResources().getDisplayMetrics();
+            float free = Math.max(0, metrics.heightPixels - window.getDecorView().getHeight());
+            int gravity = getAbsoluteGravity() & Gravity.VERTICAL_GRAVITY_MASK;
+            return gravity == Gravity.CENTER_VERTICAL ? new float[]{-free / 2, free / 2} : new float[]{0, free};
+        }
+
+        /**
+         * 靠右对齐时x增大窗口向左移动
+         *
+         * @return 手指移动方向与x的关系
+         */
+        private int getDirectionX() {
+            return (getAbsoluteGravity() & Gravity.HORIZONTAL_GRAVITY_MASK) == Gravity.RIGHT ? -1 : 1;
+        }
+
+        /**
+         * 靠下对齐时y增大窗口向上移动
+         *
+         * @return 手指移动方向与y的关系
+         */
+        private int getDirectionY() {
+            return (getAbsoluteGravity() & Gravity.VERTICAL_GRAVITY_MASK) == Gravity.BOTTOM ? -1 : 1;
+        }
+
+        /**
+         * 转换START/END后的对齐方式
+         *
+         * @return the int
+         */
+        private int getAbsoluteGravity() {
+            return Gravity.getAbsoluteGravity(layoutParams.gravity, window.getDecorView().getLayoutDirection());
+        }
     }
 
     /**
@@ -20,6 +20,8 @@ import java.lang.reflect.InvocationTargetException;
 
 import cn.com.shadowless.baseview.event.ViewPublicEvent;
 import cn.com.shadowless.baseview.utils.AsyncViewBindingInflate;
+import cn.com.shadowless.baseview.utils.InitPipeline;
+import cn.com.shadowless.baseview.utils.FirstDrawScheduler;
 
 /**
  * The type Base dialog fragment.
@@ -36,6 +38,11 @@ public abstract class BaseDialogFragment<VB extends ViewBinding> extends DialogF
      */
     private VB bind = null;
 
+    /**
+     * 分帧初始化流水线
+     */
+    private InitPipeline initPipeline = null;
+
     /**
      * 依附的activity
      */
@@ -51,6 +58,11 @@ public abstract class BaseDialogFragment<VB extends ViewBinding> extends DialogF
      */
     private final Handler mainHandler = new Handler(Looper.getMainLooper());
 
+    /**
+     * 首帧调度器
+     */
+    private FirstDrawScheduler firstDrawScheduler = null;
+
     /**
      * 是否懒加载标识符
      */
@@ -85,7 +97,7 @@ public abstract class BaseDialogFragment<VB extends ViewBinding> extends DialogF
                 return new FrameLayout(getAttachActivity());
             default:
                 View defaultView = getInflateView();
-                mainHandler.postDelayed(this::initEvent, 100);
+                scheduleInitEvent(defaultView);
                 return defaultView;
         }
     }
@@ -121,11 +133,33 @@ public abstract class BaseDialogFragment<VB extends ViewBinding> extends DialogF
         }
     }
 
+    /**
+     * 按初始化时机调度initEvent
+     *
+     * @param view 已创建的视图
+     */
+    private void scheduleInitEvent(View view) {
+        if (getInitPolicy() == InitPolicy.DELAY) {
+            mainHandler.postDelayed(this::initEvent, FirstDrawScheduler.DEFAULT_TIMEOUT_MILLIS);
+            return;
+        }
+        firstDrawScheduler = FirstDrawScheduler.schedule(view, mainHandler, FirstDrawScheduler.DEFAULT_TIMEOUT_MILLIS, this::initEvent);
+    }
+
     @Override
     public void onDestroyView() {
         if (bind != null) {
             bind = null;
         }
+        if (initPipeline != null) {
+            initPipeline.cancel();
+            initPipeline = null;
+        }
+        if (firstDrawScheduler != null) {
+            firstDrawScheduler.cancel();
+            firstDrawScheduler = null;
+        }
+        mainHandler.removeCallbacksAndMessages(null);
         super.onDestroyView();
     }
 
@@ -201,8 +235,9 @@ public abstract class BaseDialogFragment<VB extends ViewBinding> extends DialogF
         if (callBack != null) {
             callBack.showLoadView();
         }
-        AsyncViewBindingInflate<VB> asyncViewBindingInflate = new AsyncViewBindingInflate<>(getAttachActivity());
+        AsyncViewBindingInflate<VB> asyncViewBindingInflate = AsyncViewBindingInflate.obtain(getAttachActivity());
         asyncViewBindingInflate.inflate(initViewBindingGenericsClass(BaseDialogFragment.this), group,
+                getInflatePriority(BaseDialogFragment.this), getViewLifecycleOwner(),
                 new AsyncViewBindingInflate.OnInflateFinishedListener<VB>() {
                     @Override
                     public void onInflateFinished(@NonNull VB binding, @Nullable ViewGroup parent) {
@@ -214,11 +249,16 @@ public abstract class BaseDialogFragment<VB extends ViewBinding> extends DialogF
                                 @Override
                                 public void animStart() {
                                     group.addView(view);
+                                    if (callBack.isInitEventOnAnimStart()) {
+                                        initEvent();
+                                    }
                                 }
 
                                 @Override
                                 public void animEnd() {
-                                    initEvent();
+                                    if (!callBack.isInitEventOnAnimStart()) {
+                                        initEvent();
+                                    }
                                 }
                             });
                             return;
@@ -242,6 +282,17 @@ public abstract class BaseDialogFragment<VB extends ViewBinding> extends DialogF
      */
     @Override
     public final void initEvent() {
+        if (isStagedInit()) {
+            InitPipeline pipeline = new InitPipeline();
+            pipeline.add(InitPipeline.PRIORITY_VIEW, this::initView)
+                    .add(InitPipeline.PRIORITY_VIEW_LISTENER, this::initViewListener)
+                    .add(InitPipeline.PRIORITY_DATA, this::initData)
+                    .add(InitPipeline.PRIORITY_PERMISSION, () -> initPermissionAndInitData(this));
+            onCreateInitPipeline(pipeline);
+            initPipeline = pipeline;
+            pipeline.start(getInitFrameBudgetMillis(), () -> isLazyInitSuccess = true);
+            return;
+        }
         initView();
         initViewListener();
         initData();
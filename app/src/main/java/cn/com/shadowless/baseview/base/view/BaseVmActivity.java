@@ -11,14 +11,17 @@ import androidx.appcompat.app.AppCompatActivity;
 import androidx.viewbinding.ViewBinding;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.List;
 
 import cn.com.shadowless.baseview.base.widget.BaseMutableLiveData;
 import cn.com.shadowless.baseview.base.widget.BaseViewModel;
 import cn.com.shadowless.baseview.event.ViewModelEvent;
 import cn.com.shadowless.baseview.event.ViewPublicEvent;
+import cn.com.shadowless.baseview.manager.ViewModelInitManager;
 import cn.com.shadowless.baseview.manager.VmObjManager;
 import cn.com.shadowless.baseview.utils.AsyncViewBindingInflate;
+import cn.com.shadowless.baseview.utils.InitPipeline;
 
 /**
  * 基类Activity
@@ -35,6 +38,11 @@ public abstract class BaseVmActivity<VB extends ViewBinding> extends AppCompatAc
      */
     protected VB bind = null;
 
+    /**
+     * 分帧初始化流水线
+     */
+    private InitPipeline initPipeline = null;
+
     /**
      * The Call back.
      */
@@ -64,15 +72,15 @@ public abstract class BaseVmActivity<VB extends ViewBinding> extends AppCompatAc
         super.onCreate(savedInstanceState);
         initObject(savedInstanceState);
         manager = new VmObjManager<>();
-        manager.setCurrentActivity(this);
-        manager.setCurrentLifecycleOwner(this);
+        manager.setScope(this, null, this, null);
         tempList = collectionViewModels();
         execModelEvent(tempList, model -> {
             model.update(manager);
-            model.onModelCreated();
+            model.performModelCreated();
             model.onModelInitListener();
         });
-        if (isAsyncLoad()) {
+        bind = acquirePrefetchedView(this, this, initTheme());
+        if (isAsyncLoad() && bind == null) {
             asyncInitView();
             return;
         }
@@ -84,6 +92,10 @@ public abstract class BaseVmActivity<VB extends ViewBinding> extends AppCompatAc
         if (null != bind) {
             bind = null;
         }
+        if (initPipeline != null) {
+            initPipeline.cancel();
+            initPipeline = null;
+        }
         super.onDestroy();
     }
 
@@ -92,8 +104,13 @@ public abstract class BaseVmActivity<VB extends ViewBinding> extends AppCompatAc
      */
     @Override
     public void syncInitView() {
+        if (bind == null) {
+            bind = acquirePooledView(this, this);
+        }
         try {
-            bind = inflateView(this, getLayoutInflater());
+            if (bind == null) {
+                bind = inflateView(this, getLayoutInflater());
+            }
         } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
             throw new RuntimeException("视图无法反射初始化，若动态布局请检查setBindViewClass是否传入或重写inflateView手动实现ViewBinding创建\n" + Log.getStackTraceString(e));
         }
@@ -112,8 +129,9 @@ public abstract class BaseVmActivity<VB extends ViewBinding> extends AppCompatAc
         if (callBack != null) {
             callBack.showLoadView();
         }
-        AsyncViewBindingInflate<VB> asyncViewBindingInflate = new AsyncViewBindingInflate<>(this);
+        AsyncViewBindingInflate<VB> asyncViewBindingInflate = AsyncViewBindingInflate.obtain(this);
         asyncViewBindingInflate.inflate(initViewBindingGenericsClass(BaseVmActivity.this), null,
+                AsyncViewBindingInflate.Priority.VISIBLE, BaseVmActivity.this,
                 new AsyncViewBindingInflate.OnInflateFinishedListener<VB>() {
                     @Override
                     public void onInflateFinished(@NonNull VB binding, @Nullable ViewGroup parent) {
@@ -127,11 +145,16 @@ public abstract class BaseVmActivity<VB extends ViewBinding> extends AppCompatAc
                                 @Override
                                 public void animStart() {
                                     setContentView(view);
+                                    if (callBack.isInitEventOnAnimStart()) {
+                                        initEvent();
+                                    }
                                 }
 
                                 @Override
                                 public void animEnd() {
-                                    initEvent();
+                                    if (!callBack.isInitEventOnAnimStart()) {
+                                        initEvent();
+                                    }
                                 }
                             });
                             return;
@@ -152,12 +175,27 @@ public abstract class BaseVmActivity<VB extends ViewBinding> extends AppCompatAc
 
     @Override
     public final void initEvent() {
+        if (isStagedInit()) {
+            InitPipeline pipeline = new InitPipeline();
+            pipeline.add(InitPipeline.PRIORITY_VIEW, this::initView)
+                    .add(InitPipeline.PRIORITY_VIEW_LISTENER, this::initViewListener)
+                    .add(InitPipeline.PRIORITY_DATA_LISTENER, this::initModelListener)
+                    .addAsync(InitPipeline.PRIORITY_DATA, this::initModelData)
+                    .add(InitPipeline.PRIORITY_PERMISSION, () -> initPermissionAndInitData(this));
+            onCreateInitPipeline(pipeline);
+            execModelEvent(tempList, model -> model.onModelCreateInitPipeline(pipeline));
+            initPipeline = pipeline;
+            pipeline.start(getInitFrameBudgetMillis(), () -> isLazyInitSuccess = true);
+            return;
+        }
         initView();
         initViewListener();
         initModelListener();
-        initModelData();
-        initPermissionAndInitData(this);
-        isLazyInitSuccess = true;
+        //并行初始化数据时，等待后台部分完成后再申请权限
+        initModelData(() -> {
+            initPermissionAndInitData(this);
+            isLazyInitSuccess = true;
+        });
     }
 
     /**
@@ -182,7 +220,64 @@ public abstract class BaseVmActivity<VB extends ViewBinding> extends AppCompatAc
 
     @Override
     public final void initModelData() {
-        execModelEvent(tempList, ViewModelEvent::onModelInitData);
+        initModelData(null);
+    }
+
+    /**
+     * 初始化ViewModel数据
+     * <p>
+     * 开启并行初始化时，后台部分全部完成后才回调onFinished，页面已销毁时不回调。
+     * </p>
+     *
+     * @param onFinished 全部完成后的主线程回调
+     */
+    protected final void initModelData(@Nullable Runnable onFinished) {
+        //重建后只重新绑定的ViewModel不再初始化数据
+        List<BaseViewModel<VB, ? extends BaseMutableLiveData>> dataList = new ArrayList<>();
+        for (BaseViewModel<VB, ? extends BaseMutableLiveData> model : tempList) {
+            if (model.markModelDataInit()) {
+                dataList.add(model);
+            }
+        }
+        if (!isParallelInitData()) {
+            execModelEvent(dataList, ViewModelEvent::onModelInitData);
+            onModelInitDataFinished();
+            if (onFinished != null) {
+                onFinished.run();
+            }
+            return;
+        }
+        ViewModelInitManager.INSTANCE.initData(dataList, new ViewModelInitManager.OnInitDataListener() {
+            @Override
+            public void onInitDataFinished() {
+                if (isPageAlive()) {
+                    onModelInitDataFinished();
+                    if (onFinished != null) {
+                        onFinished.run();
+                    }
+                }
+            }
+
+            @Override
+            public void onInitDataError(@NonNull Throwable e) {
+                //页面已销毁时不再抛出
+                if (isPageAlive()) {
+                    throw new RuntimeException("ViewModel后台初始化数据错误：\n" + Log.getStackTraceString(e));
+                }
+            }
+        });
+    }
+
+    /**
+     * 页面是否仍然存活
+     * <p>
+     * Activity未结束且未销毁，配置变化销毁时isFinishing仍为false，需同时判断isDestroyed。
+     * </p>
+     *
+     * @return the boolean
+     */
+    private boolean isPageAlive() {
+        return !isFinishing() && !isDestroyed();
     }
 
     @Override
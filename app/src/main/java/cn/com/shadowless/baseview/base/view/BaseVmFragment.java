@@ -17,14 +17,18 @@ import androidx.fragment.app.Fragment;
 import androidx.viewbinding.ViewBinding;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.List;
 
 import cn.com.shadowless.baseview.base.widget.BaseMutableLiveData;
 import cn.com.shadowless.baseview.base.widget.BaseViewModel;
 import cn.com.shadowless.baseview.event.ViewModelEvent;
 import cn.com.shadowless.baseview.event.ViewPublicEvent;
+import cn.com.shadowless.baseview.manager.ViewModelInitManager;
 import cn.com.shadowless.baseview.manager.VmObjManager;
 import cn.com.shadowless.baseview.utils.AsyncViewBindingInflate;
+import cn.com.shadowless.baseview.utils.InitPipeline;
+import cn.com.shadowless.baseview.utils.FirstDrawScheduler;
 
 /**
  * 基类Fragment
@@ -42,6 +46,11 @@ public abstract class BaseVmFragment<VB extends ViewBinding> extends Fragment
      */
     protected VB bind = null;
 
+    /**
+     * 分帧初始化流水线
+     */
+    private InitPipeline initPipeline = null;
+
     /**
      * 依附的activity
      */
@@ -57,6 +66,11 @@ public abstract class BaseVmFragment<VB extends ViewBinding> extends Fragment
      */
     protected final Handler mainHandler = new Handler(Looper.getMainLooper());
 
+    /**
+     * 首帧调度器
+     */
+    private FirstDrawScheduler firstDrawScheduler = null;
+
     /**
      * 是否懒加载标识符
      */
@@ -67,6 +81,42 @@ public abstract class BaseVmFragment<VB extends ViewBinding> extends Fragment
      */
     protected boolean isLazyInitSuccess = false;
 
+    /**
+     * 屏幕外预加载流程
+     */
+    private final FragmentPrefetcher<VB> prefetcher = new FragmentPrefetcher<>(this, new FragmentPrefetcher.Host<VB>() {
+        @Override
+        public boolean isPrefetchSupport() {
+            return BaseVmFragment.this.isPrefetchSupport();
+        }
+
+        @Override
+        public void onBindingReady(@NonNull VB binding) {
+            bind = binding;
+            manager.setCurrentViewBinding(bind);
+            execModelEvent(tempList, ViewModelEvent::onModelInitView);
+        }
+
+        @NonNull
+        @Override
+        public InitPipeline createPipeline() {
+            InitPipeline pipeline = new InitPipeline();
+            pipeline.add(InitPipeline.PRIORITY_VIEW, BaseVmFragment.this::initView)
+                    .add(InitPipeline.PRIORITY_VIEW_LISTENER, BaseVmFragment.this::initViewListener)
+                    .add(InitPipeline.PRIORITY_DATA_LISTENER, BaseVmFragment.this::initModelListener)
+                    .addAsync(InitPipeline.PRIORITY_DATA, BaseVmFragment.this::initModelData);
+            onCreateInitPipeline(pipeline);
+            execModelEvent(tempList, model -> model.onModelCreateInitPipeline(pipeline));
+            return pipeline;
+        }
+
+        @Override
+        public void onPrefetchFinished() {
+            initPermissionAndInitData(BaseVmFragment.this);
+            isLazyInitSuccess = true;
+        }
+    });
+
     /**
      * ViewModel所需对象管理
      */
@@ -94,13 +144,11 @@ public abstract class BaseVmFragment<VB extends ViewBinding> extends Fragment
     public final View onCreateView(@NonNull LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState) {
         initObject(savedInstanceState);
         manager = new VmObjManager<>();
-        manager.setCurrentActivity(getAttachActivity());
-        manager.setCurrentFragment(this);
-        manager.setCurrentLifecycleOwner(this);
+        manager.setScope(getAttachActivity(), this, this, null);
         tempList = collectionViewModels();
         execModelEvent(tempList, model -> {
             model.update(manager);
-            model.onModelCreated();
+            model.performModelCreated();
             model.onModelInitListener();
         });
         LoadMode mode = getLoadMode();
@@ -109,9 +157,13 @@ public abstract class BaseVmFragment<VB extends ViewBinding> extends Fragment
                 return getInflateView();
             case LAZY_VIEW_AND_DATA:
                 return new FrameLayout(getAttachActivity());
+            case PREFETCH:
+                isLazyInit = false;
+                mainHandler.post(prefetcher::prefetch);
+                return new FrameLayout(getAttachActivity());
             default:
                 View defaultView = getInflateView();
-                mainHandler.postDelayed(this::initEvent, 100);
+                scheduleInitEvent(defaultView);
                 return defaultView;
         }
     }
@@ -138,6 +190,9 @@ public abstract class BaseVmFragment<VB extends ViewBinding> extends Fragment
                                 }
                                 syncInitView();
                                 break;
+                            case PREFETCH:
+                                prefetcher.resume();
+                                break;
                             default:
                                 break;
                         }
@@ -147,11 +202,42 @@ public abstract class BaseVmFragment<VB extends ViewBinding> extends Fragment
         }
     }
 
+    /**
+     * 按初始化时机调度initEvent
+     *
+     * @param view 已创建的视图
+     */
+    private void scheduleInitEvent(View view) {
+        if (getInitPolicy() == InitPolicy.DELAY) {
+            mainHandler.postDelayed(this::initEvent, FirstDrawScheduler.DEFAULT_TIMEOUT_MILLIS);
+            return;
+        }
+        firstDrawScheduler = FirstDrawScheduler.schedule(view, mainHandler, FirstDrawScheduler.DEFAULT_TIMEOUT_MILLIS, this::initEvent);
+    }
+
+    /**
+     * 是否支持屏幕外预加载
+     *
+     * @return 不支持时PREFETCH模式按视图和数据都懒加载处理
+     */
+    protected boolean isPrefetchSupport() {
+        return true;
+    }
+
     @Override
     public void onDestroyView() {
         if (bind != null) {
             bind = null;
         }
+        prefetcher.reset();
+        if (initPipeline != null) {
+            initPipeline.cancel();
+            initPipeline = null;
+        }
+        if (firstDrawScheduler != null) {
+            firstDrawScheduler.cancel();
+            firstDrawScheduler = null;
+        }
         mainHandler.removeCallbacksAndMessages(null);
         super.onDestroyView();
     }
@@ -179,8 +265,11 @@ public abstract class BaseVmFragment<VB extends ViewBinding> extends Fragment
      */
     @Override
     public View getInflateView() {
+        bind = acquirePooledView(this, getAttachActivity());
         try {
-            bind = inflateView(this, getLayoutInflater());
+            if (bind == null) {
+                bind = inflateView(this, getLayoutInflater());
+            }
         } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
             throw new RuntimeException("视图无法反射初始化，若动态布局请检查setBindViewClass是否传入或重写inflateView手动实现ViewBinding创建\n" + Log.getStackTraceString(e));
         }
@@ -210,8 +299,9 @@ public abstract class BaseVmFragment<VB extends ViewBinding> extends Fragment
         if (callBack != null) {
             callBack.showLoadView();
         }
-        AsyncViewBindingInflate<VB> asyncViewBindingInflate = new AsyncViewBindingInflate<>(getAttachActivity());
+        AsyncViewBindingInflate<VB> asyncViewBindingInflate = AsyncViewBindingInflate.obtain(getAttachActivity());
         asyncViewBindingInflate.inflate(initViewBindingGenericsClass(BaseVmFragment.this), group,
+                getInflatePriority(BaseVmFragment.this), getViewLifecycleOwner(),
                 new AsyncViewBindingInflate.OnInflateFinishedListener<VB>() {
                     @Override
                     public void onInflateFinished(@NonNull VB binding, @Nullable ViewGroup parent) {
@@ -225,11 +315,16 @@ public abstract class BaseVmFragment<VB extends ViewBinding> extends Fragment
                                 @Override
                                 public void animStart() {
                                     group.addView(view);
+                                    if (callBack.isInitEventOnAnimStart()) {
+                                        initEvent();
+                                    }
                                 }
 
                                 @Override
                                 public void animEnd() {
-                                    initEvent();
+                                    if (!callBack.isInitEventOnAnimStart()) {
+                                        initEvent();
+                                    }
                                 }
                             });
                             return;
@@ -250,12 +345,27 @@ public abstract class BaseVmFragment<VB extends ViewBinding> extends Fragment
 
     @Override
     public final void initEvent() {
+        if (isStagedInit()) {
+            InitPipeline pipeline = new InitPipeline();
+            pipeline.add(InitPipeline.PRIORITY_VIEW, this::initView)
+                    .add(InitPipeline.PRIORITY_VIEW_LISTENER, this::initViewListener)
+                    .add(InitPipeline.PRIORITY_DATA_LISTENER, this::initModelListener)
+                    .addAsync(InitPipeline.PRIORITY_DATA, this::initModelData)
+                    .add(InitPipeline.PRIORITY_PERMISSION, () -> initPermissionAndInitData(this));
+            onCreateInitPipeline(pipeline);
+            execModelEvent(tempList, model -> model.onModelCreateInitPipeline(pipeline));
+            initPipeline = pipeline;
+            pipeline.start(getInitFrameBudgetMillis(), () -> isLazyInitSuccess = true);
+            return;
+        }
         initView();
         initViewListener();
         initModelListener();
-        initModelData();
-        initPermissionAndInitData(this);
-        isLazyInitSuccess = true;
+        //并行初始化数据时，等待后台部分完成后再申请权限
+        initModelData(() -> {
+            initPermissionAndInitData(this);
+            isLazyInitSuccess = true;
+        });
     }
 
     /**
@@ -281,7 +391,64 @@ public abstract class BaseVmFragment<VB extends ViewBinding> extends Fragment
 
     @Override
     public final void initModelData() {
-        execModelEvent(tempList, ViewModelEvent::onModelInitData);
+        initModelData(null);
+    }
+
+    /**
+     * 初始化ViewModel数据
+     * <p>
+     * 开启并行初始化时，后台部分全部完成后才回调onFinished，页面已销毁时不回调。
+     * </p>
+     *
+     * @param onFinished 全部完成后的主线程回调
+     */
+    protected final void initModelData(@Nullable Runnable onFinished) {
+        //重建后只重新绑定的ViewModel不再初始化数据
+        List<BaseViewModel<VB, ? extends BaseMutableLiveData>> dataList = new ArrayList<>();
+        for (BaseViewModel<VB, ? extends BaseMutableLiveData> model : tempList) {
+            if (model.markModelDataInit()) {
+                dataList.add(model);
+            }
+        }
+        if (!isParallelInitData()) {
+            execModelEvent(dataList, ViewModelEvent::onModelInitData);
+            onModelInitDataFinished();
+            if (onFinished != null) {
+                onFinished.run();
+            }
+            return;
+        }
+        ViewModelInitManager.INSTANCE.initData(dataList, new ViewModelInitManager.OnInitDataListener() {
+            @Override
+            public void onInitDataFinished() {
+                if (isPageAlive()) {
+                    onModelInitDataFinished();
+                    if (onFinished != null) {
+                        onFinished.run();
+                    }
+                }
+            }
+
+            @Override
+            public void onInitDataError(@NonNull Throwable e) {
+                //页面已销毁时不再抛出
+                if (isPageAlive()) {
+                    throw new RuntimeException("ViewModel后台初始化数据错误：\n" + Log.getStackTraceString(e));
+                }
+            }
+        });
+    }
+
+    /**
+     * 页面是否仍然存活
+     * <p>
+     * 已添加且视图未销毁，返回栈中视图已销毁时isAdded仍为true，需同时判断视图。
+     * </p>
+     *
+     * @return the boolean
+     */
+    private boolean isPageAlive() {
+        return isAdded() && getView() != null;
     }
 
     @Override
@@ -14,6 +14,7 @@ import java.lang.reflect.InvocationTargetException;
 
 import cn.com.shadowless.baseview.event.ViewPublicEvent;
 import cn.com.shadowless.baseview.utils.AsyncViewBindingInflate;
+import cn.com.shadowless.baseview.utils.InitPipeline;
 
 /**
  * 基类Activity
@@ -29,6 +30,11 @@ public abstract class BaseVpActivity<VB extends ViewBinding> extends AppCompatAc
      */
     protected VB bind = null;
 
+    /**
+     * 分帧初始化流水线
+     */
+    private InitPipeline initPipeline = null;
+
     /**
      * The Call back.
      */
@@ -47,7 +53,8 @@ public abstract class BaseVpActivity<VB extends ViewBinding> extends AppCompatAc
         }
         super.onCreate(savedInstanceState);
         initObject(savedInstanceState);
-        if (isAsyncLoad()) {
+        bind = acquirePrefetchedView(this, this, initTheme());
+        if (isAsyncLoad() && bind == null) {
             asyncInitView();
             return;
         }
@@ -59,6 +66,10 @@ public abstract class BaseVpActivity<VB extends ViewBinding> extends AppCompatAc
         if (null != bind) {
             bind = null;
         }
+        if (initPipeline != null) {
+            initPipeline.cancel();
+            initPipeline = null;
+        }
         super.onDestroy();
     }
 
@@ -67,8 +78,13 @@ public abstract class BaseVpActivity<VB extends ViewBinding> extends AppCompatAc
      */
     @Override
     public void syncInitView() {
+        if (bind == null) {
+            bind = acquirePooledView(this, this);
+        }
         try {
-            bind = inflateView(this, getLayoutInflater());
+            if (bind == null) {
+                bind = inflateView(this, getLayoutInflater());
+            }
         } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
             throw new RuntimeException("视图无法反射初始化，若动态布局请检查setBindViewClass是否传入或重写inflateView手动实现ViewBinding创建\n" + Log.getStackTraceString(e));
         }
@@ -85,8 +101,9 @@ public abstract class BaseVpActivity<VB extends ViewBinding> extends AppCompatAc
         if (callBack != null) {
             callBack.showLoadView();
         }
-        AsyncViewBindingInflate<VB> asyncViewBindingInflate = new AsyncViewBindingInflate<>(this);
+        AsyncViewBindingInflate<VB> asyncViewBindingInflate = AsyncViewBindingInflate.obtain(this);
         asyncViewBindingInflate.inflate(initViewBindingGenericsClass(BaseVpActivity.this), null,
+                AsyncViewBindingInflate.Priority.VISIBLE, BaseVpActivity.this,
                 new AsyncViewBindingInflate.OnInflateFinishedListener<VB>() {
                     @Override
                     public void onInflateFinished(@NonNull VB binding, @Nullable ViewGroup parent) {
@@ -98,11 +115,16 @@ public abstract class BaseVpActivity<VB extends ViewBinding> extends AppCompatAc
                                 @Override
                                 public void animStart() {
                                     setContentView(view);
+                                    if (callBack.isInitEventOnAnimStart()) {
+                                        initEvent();
+                                    }
                                 }
 
                                 @Override
                                 public void animEnd() {
-                                    initEvent();
+                                    if (!callBack.isInitEventOnAnimStart()) {
+                                        initEvent();
+                                    }
                                 }
                             });
                             return;
@@ -123,6 +145,18 @@ public abstract class BaseVpActivity<VB extends ViewBinding> extends AppCompatAc
 
     @Override
     public final void initEvent() {
+        if (isStagedInit()) {
+            InitPipeline pipeline = new InitPipeline();
+            pipeline.add(InitPipeline.PRIORITY_VIEW, this::initView)
+                    .add(InitPipeline.PRIORITY_VIEW_LISTENER, this::initViewListener)
+                    .add(InitPipeline.PRIORITY_DATA_LISTENER, this::initDataListener)
+                    .add(InitPipeline.PRIORITY_DATA, this::initData)
+                    .add(InitPipeline.PRIORITY_PERMISSION, () -> initPermissionAndInitData(this));
+            onCreateInitPipeline(pipeline);
+            initPipeline = pipeline;
+            pipeline.start(getInitFrameBudgetMillis(), () -> isLazyInitSuccess = true);
+            return;
+        }
         initView();
         initViewListener();
         initDataListener();
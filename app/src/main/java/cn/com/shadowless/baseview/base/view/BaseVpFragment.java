@@ -20,6 +20,8 @@ import java.lang.reflect.InvocationTargetException;
 
 import cn.com.shadowless.baseview.event.ViewPublicEvent;
 import cn.com.shadowless.baseview.utils.AsyncViewBindingInflate;
+import cn.com.shadowless.baseview.utils.InitPipeline;
+import cn.com.shadowless.baseview.utils.FirstDrawScheduler;
 
 /**
  * 基类Fragment
@@ -36,6 +38,11 @@ public abstract class BaseVpFragment<VB extends ViewBinding> extends Fragment im
      */
     protected VB bind = null;
 
+    /**
+     * 分帧初始化流水线
+     */
+    private InitPipeline initPipeline = null;
+
     /**
      * 依附的activity
      */
@@ -51,6 +58,11 @@ public abstract class BaseVpFragment<VB extends ViewBinding> extends Fragment im
      */
     protected final Handler mainHandler = new Handler(Looper.getMainLooper());
 
+    /**
+     * 首帧调度器
+     */
+    private FirstDrawScheduler firstDrawScheduler = null;
+
     /**
      * 是否懒加载标识符
      */
@@ -61,6 +73,39 @@ public abstract class BaseVpFragment<VB extends ViewBinding> extends Fragment im
      */
     protected boolean isLazyInitSuccess = false;
 
+    /**
+     * 屏幕外预加载流程
+     */
+    private final FragmentPrefetcher<VB> prefetcher = new FragmentPrefetcher<>(this, new FragmentPrefetcher.Host<VB>() {
+        @Override
+        public boolean isPrefetchSupport() {
+            return BaseVpFragment.this.isPrefetchSupport();
+        }
+
+        @Override
+        public void onBindingReady(@NonNull VB binding) {
+            bind = binding;
+        }
+
+        @NonNull
+        @Override
+        public InitPipeline createPipeline() {
+            InitPipeline pipeline = new InitPipeline();
+            pipeline.add(InitPipeline.PRIORITY_VIEW, BaseVpFragment.this::initView)
+                    .add(InitPipeline.PRIORITY_VIEW_LISTENER, BaseVpFragment.this::initViewListener)
+                    .add(InitPipeline.PRIORITY_DATA_LISTENER, BaseVpFragment.this::initDataListener)
+                    .add(InitPipeline.PRIORITY_DATA, BaseVpFragment.this::initData);
+            onCreateInitPipeline(pipeline);
+            return pipeline;
+        }
+
+        @Override
+        public void onPrefetchFinished() {
+            initPermissionAndInitData(BaseVpFragment.this);
+            isLazyInitSuccess = true;
+        }
+    });
+
     @Override
     public void onAttach(@NonNull Context context) {
         super.onAttach(context);
@@ -83,9 +128,13 @@ public abstract class BaseVpFragment<VB extends ViewBinding> extends Fragment im
                 return getInflateView();
             case LAZY_VIEW_AND_DATA:
                 return new FrameLayout(getAttachActivity());
+            case PREFETCH:
+                isLazyInit = false;
+                mainHandler.post(prefetcher::prefetch);
+                return new FrameLayout(getAttachActivity());
             default:
                 View defaultView = getInflateView();
-                mainHandler.postDelayed(this::initEvent, 100);
+                scheduleInitEvent(defaultView);
                 return defaultView;
         }
     }
@@ -112,6 +161,9 @@ public abstract class BaseVpFragment<VB extends ViewBinding> extends Fragment im
                                 }
                                 syncInitView();
                                 break;
+                            case PREFETCH:
+                                prefetcher.resume();
+                                break;
                             default:
                                 break;
                         }
@@ -121,11 +173,42 @@ public abstract class BaseVpFragment<VB extends ViewBinding> extends Fragment im
         }
     }
 
+    /**
+     * 按初始化时机调度initEvent
+     *
+     * @param view 已创建的视图
+     */
+    private void scheduleInitEvent(View view) {
+        if (getInitPolicy() == InitPolicy.DELAY) {
+            mainHandler.postDelayed(this::initEvent, FirstDrawScheduler.DEFAULT_TIMEOUT_MILLIS);
+            return;
+        }
+        firstDrawScheduler = FirstDrawScheduler.schedule(view, mainHandler, FirstDrawScheduler.DEFAULT_TIMEOUT_MILLIS, this::initEvent);
+    }
+
+    /**
+     * 是否支持屏幕外预加载
+     *
+     * @return 不支持时PREFETCH模式按视图和数据都懒加载处理
+     */
+    protected boolean isPrefetchSupport() {
+        return true;
+    }
+
     @Override
     public void onDestroyView() {
         if (bind != null) {
             bind = null;
         }
+        prefetcher.reset();
+        if (initPipeline != null) {
+            initPipeline.cancel();
+            initPipeline = null;
+        }
+        if (firstDrawScheduler != null) {
+            firstDrawScheduler.cancel();
+            firstDrawScheduler = null;
+        }
         mainHandler.removeCallbacksAndMessages(null);
         super.onDestroyView();
     }
@@ -153,8 +236,11 @@ public abstract class BaseVpFragment<VB extends ViewBinding> extends Fragment im
      */
     @Override
     public View getInflateView() {
+        bind = acquirePooledView(this, getAttachActivity());
         try {
-            bind = inflateView(this, getLayoutInflater());
+            if (bind == null) {
+                bind = inflateView(this, getLayoutInflater());
+            }
         } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
             throw new RuntimeException("视图无法反射初始化，若动态布局请检查setBindViewClass是否传入或重写inflateView手动实现ViewBinding创建\n" + Log.getStackTraceString(e));
         }
@@ -182,8 +268,9 @@ public abstract class BaseVpFragment<VB extends ViewBinding> extends Fragment im
         if (callBack != null) {
             callBack.showLoadView();
         }
-        AsyncViewBindingInflate<VB> asyncViewBindingInflate = new AsyncViewBindingInflate<>(getAttachActivity());
+        AsyncViewBindingInflate<VB> asyncViewBindingInflate = AsyncViewBindingInflate.obtain(getAttachActivity());
         asyncViewBindingInflate.inflate(initViewBindingGenericsClass(BaseVpFragment.this), group,
+                getInflatePriority(BaseVpFragment.this), getViewLifecycleOwner(),
                 new AsyncViewBindingInflate.OnInflateFinishedListener<VB>() {
                     @Override
                     public void onInflateFinished(@NonNull VB binding, @Nullable ViewGroup parent) {
@@ -195,11 +282,16 @@ public abstract class BaseVpFragment<VB extends ViewBinding> extends Fragment im
                                 @Override
                                 public void animStart() {
                                     group.addView(view);
+                                    if (callBack.isInitEventOnAnimStart()) {
+                                        initEvent();
+                                    }
                                 }
 
                                 @Override
                                 public void animEnd() {
-                                    initEvent();
+                                    if (!callBack.isInitEventOnAnimStart()) {
+                                        initEvent();
+                                    }
                                 }
                             });
                             return;
@@ -220,6 +312,18 @@ public abstract class BaseVpFragment<VB extends ViewBinding> extends Fragment im
 
     @Override
     public final void initEvent() {
+        if (isStagedInit()) {
+            InitPipeline pipeline = new InitPipeline();
+            pipeline.add(InitPipeline.PRIORITY_VIEW, this::initView)
+                    .add(InitPipeline.PRIORITY_VIEW_LISTENER, this::initViewListener)
+                    .add(InitPipeline.PRIORITY_DATA_LISTENER, this::initDataListener)
+                    .add(InitPipeline.PRIORITY_DATA, this::initData)
+                    .add(InitPipeline.PRIORITY_PERMISSION, () -> initPermissionAndInitData(this));
+            onCreateInitPipeline(pipeline);
+            initPipeline = pipeline;
+            pipeline.start(getInitFrameBudgetMillis(), () -> isLazyInitSuccess = true);
+            return;
+        }
         initView();
         initViewListener();
         initDataListener();
@@ -0,0 +1,270 @@
+package cn.com.shadowless.baseview.base.view;
+
+import android.util.Log;
+import android.view.ViewGroup;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.fragment.app.Fragment;
+import androidx.viewbinding.ViewBinding;
+
+import cn.com.shadowless.baseview.event.ViewPublicEvent;
+import cn.com.shadowless.baseview.utils.AsyncViewBindingInflate;
+import cn.com.shadowless.baseview.utils.InitPipeline;
+
+/**
+ * Fragment屏幕外预加载流程
+ * <p>
+ * BaseVmFragment与BaseVpFragment的PREFETCH模式共用：页面不可见时以最低优先级在后台加载布局，
+ * 完成后添加到容器并分帧执行除权限申请外的初始化；变为当前页时提升加载优先级，
+ * 或在初始化完成后直接执行权限申请与数据初始化。视图销毁时需调用 {@link #reset()}。
+ * </p>
+ *
+ * @param <VB> ViewBinding类型参数
+ * @author sHadowLess
+ */
+final class FragmentPrefetcher<VB extends ViewBinding> {
+
+    /**
+     * 预加载页面中两个基类不同的部分
+     *
+     * @param <VB> ViewBinding类型参数
+     */
+    interface Host<VB extends ViewBinding> {
+        /**
+         * 是否支持屏幕外预加载
+         *
+         * @return the boolean
+         */
+        boolean isPrefetchSupport();
+
+        /**
+         * 布局加载完成，保存视图并执行页面自身的视图就绪处理
+         *
+         * @param binding 已加载的视图
+         */
+        void onBindingReady(@NonNull VB binding);
+
+        /**
+         * 创建除权限申请外的初始化流水线
+         *
+         * @return the init pipeline
+         */
+        @NonNull
+        InitPipeline createPipeline();
+
+        /**
+         * 预加载页面初始化完成且已变为当前页，执行权限申请与数据初始化
+         */
+        void onPrefetchFinished();
+    }
+
+    /**
+     * 预加载的Fragment
+     */
+    private final Fragment fragment;
+
+    /**
+     * Fragment事件
+     */
+    private final ViewPublicEvent.InitFragmentEvent fragmentEvent;
+
+    /**
+     * 视图绑定事件
+     */
+    private final ViewPublicEvent.InitViewBinding<VB> bindingEvent;
+
+    /**
+     * 初始化事件
+     */
+    private final ViewPublicEvent.InitBindingPublicEvent publicEvent;
+
+    /**
+     * 预加载页面
+     */
+    private final Host<VB> host;
+
+    /**
+     * 加载视图回调
+     */
+    private ViewPublicEvent.InitViewBinding.AsyncLoadViewCallBack callBack = null;
+
+    /**
+     * 是否正在预加载布局
+     */
+    private boolean isPrefetching = false;
+
+    /**
+     * 布局是否已加载
+     */
+    private boolean isInflated = false;
+
+    /**
+     * 预加载是否完成，不含权限申请
+     */
+    private boolean isPrefetchReady = false;
+
+    /**
+     * 预加载完成前是否已变为当前页
+     */
+    private boolean isPrefetchResumed = false;
+
+    /**
+     * 预加载布局的回调，用于提升优先级
+     */
+    private AsyncViewBindingInflate.OnInflateFinishedListener<VB> prefetchListener = null;
+
+    /**
+     * 分帧初始化流水线
+     */
+    private InitPipeline initPipeline = null;
+
+    /**
+     * Instantiates a new Fragment prefetcher.
+     *
+     * @param <F>      基类Fragment类型
+     * @param fragment 预加载的Fragment
+     * @param host     预加载页面
+     */
+    <F extends Fragment & ViewPublicEvent.InitFragmentEvent & ViewPublicEvent.InitViewBinding<VB> & ViewPublicEvent.InitBindingPublicEvent>
+    FragmentPrefetcher(@NonNull F fragment, @NonNull Host<VB> host) {
+        this.fragment = fragment;
+        this.fragmentEvent = fragment;
+        this.bindingEvent = fragment;
+        this.publicEvent = fragment;
+        this.host = host;
+    }
+
+    /**
+     * 页面不可见时开始预加载
+     * <p>
+     * 在onCreateView之后调用，不支持预加载时不处理。
+     * </p>
+     */
+    @MainThread
+    void prefetch() {
+        if (host.isPrefetchSupport()) {
+            inflate(AsyncViewBindingInflate.Priority.PREFETCH);
+        }
+    }
+
+    /**
+     * 预加载页面变为当前页
+     */
+    @MainThread
+    void resume() {
+        if (isPrefetchReady) {
+            host.onPrefetchFinished();
+            return;
+        }
+        if (initPipeline != null) {
+            isPrefetchResumed = true;
+            return;
+        }
+        if (!host.isPrefetchSupport()) {
+            //按视图和数据都懒加载处理
+            if (bindingEvent.isAsyncLoad()) {
+                bindingEvent.asyncInitView();
+                return;
+            }
+            bindingEvent.syncInitView();
+            return;
+        }
+        isPrefetchResumed = true;
+        callBack = bindingEvent.AsyncLoadView();
+        if (callBack != null) {
+            callBack.showLoadView();
+        }
+        if (isPrefetching) {
+            AsyncViewBindingInflate<VB> asyncViewBindingInflate = AsyncViewBindingInflate.obtain(fragment.requireActivity());
+            asyncViewBindingInflate.promote(prefetchListener, AsyncViewBindingInflate.Priority.VISIBLE);
+            return;
+        }
+        inflate(AsyncViewBindingInflate.Priority.VISIBLE);
+    }
+
+    /**
+     * 视图销毁时重置，取消未完成的初始化
+     */
+    @MainThread
+    void reset() {
+        isPrefetching = false;
+        isInflated = false;
+        isPrefetchReady = false;
+        isPrefetchResumed = false;
+        prefetchListener = null;
+        callBack = null;
+        if (initPipeline != null) {
+            initPipeline.cancel();
+            initPipeline = null;
+        }
+    }
+
+    /**
+     * 预加载布局
+     * <p>
+     * 加载完成后添加到容器，并分帧执行除权限申请外的初始化。
+     * </p>
+     *
+     * @param priority 加载优先级
+     */
+    private void inflate(AsyncViewBindingInflate.Priority priority) {
+        if (isPrefetching || isInflated || !fragmentEvent.isFragmentActive(fragment)) {
+            return;
+        }
+        ViewGroup group = (ViewGroup) fragment.requireView();
+        isPrefetching = true;
+        prefetchListener = new AsyncViewBindingInflate.OnInflateFinishedListener<VB>() {
+            @Override
+            public void onInflateFinished(@NonNull VB binding, @Nullable ViewGroup parent) {
+                isPrefetching = false;
+                isInflated = true;
+                prefetchListener = null;
+                host.onBindingReady(binding);
+                dismissLoadView();
+                group.addView(binding.getRoot());
+                startPipeline();
+            }
+
+            @Override
+            public void onInflateError(Exception e) {
+                isPrefetching = false;
+                prefetchListener = null;
+                dismissLoadView();
+                throw new RuntimeException("预加载视图错误：\n" + Log.getStackTraceString(e));
+            }
+        };
+        AsyncViewBindingInflate<VB> asyncViewBindingInflate = AsyncViewBindingInflate.obtain(fragment.requireActivity());
+        asyncViewBindingInflate.inflate(bindingEvent.initViewBindingGenericsClass(fragment), group,
+                priority, fragment.getViewLifecycleOwner(), prefetchListener);
+    }
+
+    /**
+     * 预加载初始化
+     * <p>
+     * 页面不可见，始终分帧执行，避免影响当前页。
+     * </p>
+     */
+    private void startPipeline() {
+        InitPipeline pipeline = host.createPipeline();
+        initPipeline = pipeline;
+        pipeline.start(publicEvent.getInitFrameBudgetMillis(), () -> {
+            initPipeline = null;
+            isPrefetchReady = true;
+            if (isPrefetchResumed) {
+                host.onPrefetchFinished();
+            }
+        });
+    }
+
+    /**
+     * 关闭加载视图
+     */
+    private void dismissLoadView() {
+        if (callBack != null) {
+            callBack.dismissLoadView();
+            callBack = null;
+        }
+    }
+}
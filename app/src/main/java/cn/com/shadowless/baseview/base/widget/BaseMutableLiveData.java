@@ -8,11 +8,16 @@ import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import androidx.viewbinding.ViewBinding;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import cn.com.shadowless.baseview.event.UpdateObjEvent;
 import cn.com.shadowless.baseview.lifecycle.BaseQuickLifecycle;
@@ -26,6 +31,21 @@ import cn.com.shadowless.baseview.manager.VmObjManager;
  */
 public abstract class BaseMutableLiveData implements BaseQuickLifecycle, UpdateObjEvent {
 
+    /**
+     * 类与LiveData字段信息的映射
+     */
+    private static final ConcurrentHashMap<Class<?>, FieldInfo> FIELD_INFO_MAP = new ConcurrentHashMap<>();
+
+    /**
+     * LiveData类型与创建器的映射
+     */
+    private static final ConcurrentHashMap<Class<?>, LiveDataCreator> CREATOR_MAP = new ConcurrentHashMap<>();
+
+    static {
+        CREATOR_MAP.put(MutableLiveData.class, MutableLiveData::new);
+        CREATOR_MAP.put(SingleLiveData.class, SingleLiveData::new);
+    }
+
     /**
      * The Mutable live data list.
      */
@@ -36,6 +56,79 @@ public abstract class BaseMutableLiveData implements BaseQuickLifecycle, UpdateO
      */
     private LifecycleOwner observeLifecycle;
 
+    /**
+     * LiveData字段实例化方式
+     */
+    public enum InitMode {
+        /**
+         * 不自动实例化，由子类手动实例化
+         */
+        NONE,
+        /**
+         * 构造时实例化所有为空的MutableLiveData字段
+         */
+        REFLECT,
+        /**
+         * 首次通过 {@link #lazy(String)} 访问时才实例化对应字段
+         */
+        LAZY
+    }
+
+    /**
+     * LiveData创建器
+     * <p>
+     * 用于替代反射调用构造方法，可通过 {@link #registerCreator} 为自定义LiveData注册。
+     * </p>
+     */
+    public interface LiveDataCreator {
+        /**
+         * 创建LiveData
+         *
+         * @return the mutable live data
+         */
+        @NonNull
+        MutableLiveData<?> create();
+    }
+
+    /**
+     * 类的LiveData字段信息
+     * <p>
+     * 每个类只遍历一次继承链，子类字段在前，同名时优先子类字段。
+     * </p>
+     */
+    private static final class FieldInfo {
+        /**
+         * 所有MutableLiveData字段，已设置可访问
+         */
+        private final Field[] fields;
+        /**
+         * 字段名与字段的映射
+         */
+        private final Map<String, Field> fieldMap = new HashMap<>();
+
+        /**
+         * Instantiates a new Field info.
+         *
+         * @param cls the cls
+         */
+        private FieldInfo(Class<?> cls) {
+            List<Field> fieldList = new ArrayList<>();
+            for (Class<?> c = cls; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!MutableLiveData.class.isAssignableFrom(field.getType())) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fieldList.add(field);
+                    if (!fieldMap.containsKey(field.getName())) {
+                        fieldMap.put(field.getName(), field);
+                    }
+                }
+            }
+            fields = fieldList.toArray(new Field[0]);
+        }
+    }
+
     /**
      * Instantiates a new Base mutable live data.
      *
@@ -52,42 +145,142 @@ public abstract class BaseMutableLiveData implements BaseQuickLifecycle, UpdateO
      * @param isReflectSet   the is reflect set
      */
     public BaseMutableLiveData(@NonNull LifecycleOwner lifecycleOwner, boolean isReflectSet) {
+        this(lifecycleOwner, isReflectSet ? InitMode.REFLECT : InitMode.NONE);
+    }
+
+    /**
+     * Instantiates a new Base mutable live data.
+     * <p>
+     * LAZY模式下构造时不创建任何LiveData，子类在get方法中通过 {@link #lazy(String)} 获取，
+     * 未使用的字段不会被创建。
+     * </p>
+     *
+     * @param lifecycleOwner the lifecycle owner
+     * @param initMode       LiveData字段实例化方式
+     */
+    public BaseMutableLiveData(@NonNull LifecycleOwner lifecycleOwner, @NonNull InitMode initMode) {
         this.observeLifecycle = lifecycleOwner;
         this.getLifecycle().addObserver(this);
         mutableLiveDataList = new ArrayList<>();
-        if (isReflectSet) {
-            getAllFields(this.getClass(), BaseMutableLiveData.this);
+        if (initMode == InitMode.REFLECT) {
+            for (Field field : getFieldInfo(this.getClass()).fields) {
+                getOrCreate(field);
+            }
         }
     }
 
     /**
-     * Gets all fields.
+     * 注册LiveData创建器
+     * <p>
+     * 注册后该类型字段直接通过创建器实例化，不再反射调用构造方法。
+     * MutableLiveData与SingleLiveData已默认注册。
+     * </p>
      *
-     * @param cls the cls
-     * @param obj the obj
+     * @param cls     LiveData类型
+     * @param creator 创建器
+     */
+    public static void registerCreator(@NonNull Class<? extends MutableLiveData> cls, @NonNull LiveDataCreator creator) {
+        CREATOR_MAP.put(cls, creator);
+    }
+
+    /**
+     * 获取LiveData字段，为空时创建
+     * <p>
+     * 在LAZY模式下于get方法中调用，如：return lazy("testInteger");
+     * 字段信息与创建器均已缓存，只在首次访问时创建实例。
+     * 按字段名查找，开启混淆时需保留子类字段（见README混淆规则），否则字段被改名或移除后抛出异常。
+     * 字段声明为volatile时已创建后直接读取，否则每次在锁内读取，保证其他线程可见完整创建的实例。
+     * </p>
+     *
+     * @param <L>       LiveData类型
+     * @param fieldName 字段名
+     * @return 字段中的LiveData
      */
-    private void getAllFields(Class<?> cls, Object obj) {
-        if (cls == null) {
-            return;
+    @NonNull
+    @SuppressWarnings("unchecked")
+    protected final <L extends MutableLiveData<?>> L lazy(@NonNull String fieldName) {
+        Field field = getFieldInfo(this.getClass()).fieldMap.get(fieldName);
+        if (field == null) {
+            throw new RuntimeException(this.getClass().getName() + "中不存在MutableLiveData字段：" + fieldName);
         }
-        Field[] fields = cls.getDeclaredFields();
-        for (Field field : fields) {
-            field.setAccessible(true);
-            if (!MutableLiveData.class.isAssignableFrom(field.getType())) {
-                continue;
-            }
-            try {
-                Object o = field.get(obj);
+        return (L) getOrCreate(field);
+    }
+
+    /**
+     * 读取字段，为空时创建并写入
+     *
+     * @param field 字段
+     * @return 字段中的LiveData
+     */
+    private Object getOrCreate(Field field) {
+        try {
+            //只有volatile字段的无锁读取能保证看到完整创建的实例
+            if (Modifier.isVolatile(field.getModifiers())) {
+                Object o = field.get(this);
                 if (o != null) {
-                    continue;
+                    return o;
+                }
+            }
+            synchronized (this) {
+                Object o = field.get(this);
+                if (o == null) {
+                    o = getCreator(field.getType()).create();
+                    field.set(this, o);
                 }
-                field.set(obj, field.getType().getDeclaredConstructor().newInstance());
-            } catch (IllegalAccessException | InvocationTargetException | InstantiationException |
-                     NoSuchMethodException e) {
-                throw new RuntimeException(e);
+                return o;
             }
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 获取类的LiveData字段信息
+     *
+     * @param cls the cls
+     * @return the field info
+     */
+    private static FieldInfo getFieldInfo(Class<?> cls) {
+        FieldInfo info = FIELD_INFO_MAP.get(cls);
+        if (info == null) {
+            info = new FieldInfo(cls);
+            FieldInfo old = FIELD_INFO_MAP.putIfAbsent(cls, info);
+            if (old != null) {
+                info = old;
+            }
+        }
+        return info;
+    }
+
+    /**
+     * 获取LiveData类型的创建器
+     * <p>
+     * 未注册的类型查找一次无参构造方法后缓存。
+     * </p>
+     *
+     * @param cls LiveData类型
+     * @return the live data creator
+     */
+    private static LiveDataCreator getCreator(Class<?> cls) {
+        LiveDataCreator creator = CREATOR_MAP.get(cls);
+        if (creator != null) {
+            return creator;
+        }
+        try {
+            Constructor<?> constructor = cls.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            creator = () -> {
+                try {
+                    return (MutableLiveData<?>) constructor.newInstance();
+                } catch (IllegalAccessException | InvocationTargetException | InstantiationException e) {
+                    throw new RuntimeException(e);
+                }
+            };
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException(e);
         }
-        getAllFields(cls.getSuperclass(), obj);
+        LiveDataCreator old = CREATOR_MAP.putIfAbsent(cls, creator);
+        return old != null ? old : creator;
     }
 
     /**
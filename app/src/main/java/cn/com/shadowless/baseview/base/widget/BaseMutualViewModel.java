@@ -23,7 +23,19 @@ public abstract class BaseMutualViewModel<VB extends ViewBinding, LD extends Bas
         }
         manager.reset();
         manager.resetAllDataState();
-        manager.bindLifecycleOwner(this);
+        manager.bindLifecycleOwner(this, this::isRebindPending);
+    }
+
+    @Override
+    public void onModelRebind() {
+        if (manager == null) {
+            onModelCreated();
+            return;
+        }
+        //配置变更时旧页面销毁未清空数据，保留已加载的数据，新视图就绪后重新绑定
+        manager.reset();
+        manager.resetAllBindState();
+        manager.bindLifecycleOwner(this, this::isRebindPending);
     }
 
     @NonNull
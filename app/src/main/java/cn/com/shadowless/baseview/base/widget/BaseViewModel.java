@@ -1,5 +1,7 @@
 package cn.com.shadowless.baseview.base.widget;
 
+import android.app.Activity;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.lifecycle.Lifecycle;
@@ -25,14 +27,102 @@ public abstract class BaseViewModel<VB extends ViewBinding, LD extends BaseMutab
 
     private VmObjManager<VB> manager;
 
+    /**
+     * 是否已执行onModelCreated
+     */
+    private boolean isModelCreated = false;
+
+    /**
+     * 是否已执行onModelInitData
+     */
+    private boolean isModelDataInit = false;
+
+    /**
+     * 配置变更时推迟到ViewModel清除的onTerminate，即上次页面销毁保留了数据
+     */
+    private boolean isTerminatePending = false;
+
+    /**
+     * 当前页面是否为重新绑定
+     */
+    private boolean isRebinding = false;
+
     @Override
     public void onStateChanged(@NonNull LifecycleOwner source, @NonNull Lifecycle.Event event) {
         if (event == Lifecycle.Event.ON_DESTROY) {
-            onTerminate();
+            if (isRebindPending()) {
+                isTerminatePending = true;
+            } else {
+                onTerminate();
+            }
             this.getLifecycle().removeObserver(this);
         }
     }
 
+    @Override
+    protected void onCleared() {
+        if (isTerminatePending) {
+            isTerminatePending = false;
+            onTerminate();
+        }
+        super.onCleared();
+    }
+
+    /**
+     * 执行创建回调
+     * <p>
+     * 上次页面销毁为配置变更且保留了数据时执行onModelRebind；
+     * 否则（首次创建，或ViewModel在正常销毁后被新页面复用）重新执行onModelCreated与onModelInitData。
+     * </p>
+     */
+    public final void performModelCreated() {
+        boolean isRetained = isTerminatePending;
+        isTerminatePending = false;
+        isRebinding = isModelCreated && isRetained && isRebindOnRecreate();
+        if (isRebinding) {
+            onModelRebind();
+            return;
+        }
+        isModelCreated = true;
+        isModelDataInit = false;
+        onModelCreated();
+    }
+
+    /**
+     * 标记数据初始化
+     *
+     * @return 是否需要执行onModelInitData，重新绑定时已初始化过的返回false
+     */
+    public final boolean markModelDataInit() {
+        if (isModelDataInit && isRebinding) {
+            return false;
+        }
+        isModelDataInit = true;
+        return true;
+    }
+
+    /**
+     * 是否正在因配置变更重建且开启了只重新绑定
+     * <p>
+     * 为true时页面销毁后ViewModel保留已加载的数据，由新页面重新绑定。
+     * </p>
+     *
+     * @return the boolean
+     */
+    protected final boolean isRebindPending() {
+        return isRebindOnRecreate() && isChangingConfigurations();
+    }
+
+    /**
+     * 依附的Activity是否正在因配置变更重建
+     *
+     * @return the boolean
+     */
+    private boolean isChangingConfigurations() {
+        Activity activity = manager == null ? null : manager.getCurrentActivity();
+        return activity != null && activity.isChangingConfigurations();
+    }
+
     @Nullable
     @Override
     public LifecycleOwner getObserveLifecycleOwner() {
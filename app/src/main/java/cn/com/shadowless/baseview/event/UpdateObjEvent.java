@@ -3,11 +3,11 @@ package cn.com.shadowless.baseview.event;
 import androidx.annotation.NonNull;
 import androidx.viewbinding.ViewBinding;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 
-import cn.com.shadowless.baseview.annotation.UpdateReflect;
+import cn.com.shadowless.baseview.factory.ObjUpdater;
+import cn.com.shadowless.baseview.manager.ObjUpdaterManager;
 import cn.com.shadowless.baseview.manager.VmObjManager;
 import cn.com.shadowless.baseview.reflectImpl.DelegateReflect;
 
@@ -53,20 +53,29 @@ public interface UpdateObjEvent {
      * 更新对象
      * <p>
      * 根据指定的自动更新标志更新对象。
+     * 同一次更新过程中已更新过的对象直接跳过，共享或循环引用的对象只更新一次。
      * </p>
      *
      * @param manager      ViewModel对象管理器
      * @param isAutoUpdate 是否启用自动更新
      */
     default void update(@NonNull VmObjManager<? extends ViewBinding> manager, boolean isAutoUpdate) {
-        update(manager, isAutoUpdate, UpdateObjEvent.this.getClass(), UpdateObjEvent.this, setReflectRules(new ArrayList<>()));
+        if (!ObjUpdaterManager.INSTANCE.enter(UpdateObjEvent.this)) {
+            return;
+        }
+        try {
+            update(manager, isAutoUpdate, UpdateObjEvent.this.getClass(), UpdateObjEvent.this, setReflectRules(new ArrayList<>()));
+        } finally {
+            ObjUpdaterManager.INSTANCE.exit();
+        }
     }
 
     /**
      * 更新对象
      * <p>
-     * 根据指定的类、对象和反射规则更新对象。
-     * 通过反射遍历类的所有字段，对被@UpdateReflect注解标记的字段或实现UpdateObjEvent接口的字段执行更新操作。
+     * 根据指定的类、对象和反射规则更新对象，并逐级处理父类。
+     * 类存在编译期生成或手动注册的 {@link ObjUpdater} 时，直接更新该类声明的相关字段；
+     * 否则使用缓存的字段信息，对被@UpdateReflect注解标记的字段或实现UpdateObjEvent接口的字段执行更新操作。
      * </p>
      *
      * @param manager      ViewModel对象管理器
@@ -79,35 +88,7 @@ public interface UpdateObjEvent {
         if (cls == null || !isAutoUpdate) {
             return;
         }
-        Field[] fields = cls.getDeclaredFields();
-        for (Field field : fields) {
-            try {
-                field.setAccessible(true);
-                Object value = field.get(obj);
-                if (value == null) {
-                    continue;
-                }
-                if (field.isAnnotationPresent(UpdateReflect.class)) {
-                    for (UpdateReflectEvent event : events) {
-                        Object tempObj = event.getActualObject(value);
-                        if (tempObj == null) {
-                            continue;
-                        }
-                        if (!UpdateObjEvent.class.isAssignableFrom(tempObj.getClass())) {
-                            continue;
-                        }
-                        ((UpdateObjEvent) tempObj).update(manager);
-                    }
-                } else {
-                    if (!UpdateObjEvent.class.isAssignableFrom(field.getType())) {
-                        continue;
-                    }
-                    ((UpdateObjEvent) value).update(manager);
-                }
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException(e);
-            }
-        }
+        ObjUpdaterManager.INSTANCE.getUpdater(cls).update(obj, manager, events);
         update(manager, true, cls.getSuperclass(), obj, events);
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,9 @@
 package cn.com.shadowless.baseview.event;
 
+import androidx.annotation.NonNull;
+
+import cn.com.shadowless.baseview.utils.InitPipeline;
+
 /**
  * ViewModel事件接口
  * <p>
@@ -47,6 +51,44 @@ public interface ViewModelEvent {
      */
     void onModelInitData();
 
+    /**
+     * onModelInitData是否可在后台线程执行
+     * <p>
+     * 页面开启并行初始化数据时，返回true的ViewModel会在后台线程池中并行执行onModelInitData，
+     * 此时其中不能操作视图，更新LiveData需使用postValue。
+     * </p>
+     *
+     * @return 是否后台安全
+     */
+    default boolean isInitDataBackgroundSafe() {
+        return false;
+    }
+
+    /**
+     * 页面重建时是否只重新绑定
+     * <p>
+     * ViewModel在配置变更后存活，开启后页面重建时不再执行onModelCreated和onModelInitData，
+     * 改为执行onModelRebind，onModelInitView和onModelInitListener仍会执行以绑定新的页面，
+     * 配置变更导致的页面销毁也不再触发onTerminate，改为ViewModel清除时执行。
+     * </p>
+     *
+     * @return 是否只重新绑定
+     */
+    default boolean isRebindOnRecreate() {
+        return false;
+    }
+
+    /**
+     * 当页面重建后重新绑定时调用
+     * <p>
+     * 仅在isRebindOnRecreate返回true且已执行过onModelCreated时调用，代替onModelCreated。
+     * 此方法默认为空实现，可根据需求在实现类中重写。
+     * </p>
+     */
+    default void onModelRebind() {
+
+    }
+
     /**
      * 当ViewModel需要基于权限初始化数据时调用
      * <p>
@@ -57,4 +99,17 @@ public interface ViewModelEvent {
     default void onModelInitDataByPermission() {
 
     }
+
+    /**
+     * 当页面开启分帧初始化时调用
+     * <p>
+     * 用于将ViewModel中耗时的初始化拆分为任务单元添加到流水线。
+     * 此方法默认为空实现，可根据需求在实现类中重写。
+     * </p>
+     *
+     * @param pipeline 初始化流水线
+     */
+    default void onModelCreateInitPipeline(@NonNull InitPipeline pipeline) {
+
+    }
 }
@@ -3,6 +3,7 @@ package cn.com.shadowless.baseview.event;
 import android.animation.Animator;
 import android.animation.AnimatorListenerAdapter;
 import android.app.Activity;
+import android.content.Context;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -24,7 +25,6 @@ import com.hjq.permissions.XXPermissions;
 import com.hjq.permissions.permission.base.IPermission;
 
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -33,6 +33,14 @@ import java.util.List;
 import cn.com.shadowless.baseview.BaseCons;
 import cn.com.shadowless.baseview.base.widget.BaseMutableLiveData;
 import cn.com.shadowless.baseview.base.widget.BaseViewModel;
+import cn.com.shadowless.baseview.manager.InflateMetricsManager;
+import cn.com.shadowless.baseview.manager.ViewBindingFactoryManager;
+import cn.com.shadowless.baseview.manager.ViewBindingTypeManager;
+import cn.com.shadowless.baseview.utils.ActivityBindingPrefetcher;
+import cn.com.shadowless.baseview.utils.AsyncViewBindingInflate;
+import cn.com.shadowless.baseview.utils.IdleInflateScheduler;
+import cn.com.shadowless.baseview.utils.InitPipeline;
+import cn.com.shadowless.baseview.utils.ViewBindingPool;
 
 
 /**
@@ -83,6 +91,18 @@ public interface ViewPublicEvent {
             return LoadMode.DEFAULT;
         }
 
+        /**
+         * 获取初始化时机
+         * <p>
+         * 仅作用于DEFAULT加载模式，默认在首帧绘制后执行initEvent。
+         * </p>
+         *
+         * @return 初始化时机
+         */
+        default InitPolicy getInitPolicy() {
+            return InitPolicy.FIRST_FRAME;
+        }
+
         /**
          * 获取布局视图
          * <p>
@@ -106,13 +126,27 @@ public interface ViewPublicEvent {
             return fragment.isAdded() && !fragment.isDetached() && !fragment.isRemoving();
         }
 
+        /**
+         * 获取异步加载优先级
+         * <p>
+         * 默认以UserVisibleHint区分当前页与ViewPager屏幕外页面，屏幕外页面让出加载线程。
+         * </p>
+         *
+         * @param fragment the fragment
+         * @return 异步加载优先级
+         */
+        default AsyncViewBindingInflate.Priority getInflatePriority(Fragment fragment) {
+            return fragment.getUserVisibleHint() ? AsyncViewBindingInflate.Priority.VISIBLE : AsyncViewBindingInflate.Priority.OFFSCREEN;
+        }
+
         /**
          * 加载模式枚举
          * <p>
-         * 定义了Fragment的三种加载模式：
+         * 定义了Fragment的四种加载模式：
          * DEFAULT: 默认模式
          * ONLY_LAZY_DATA: 仅数据懒加载模式
          * LAZY_VIEW_AND_DATA: 视图和数据都懒加载模式
+         * PREFETCH: 屏幕外预加载模式
          * </p>
          */
         enum LoadMode {
@@ -127,7 +161,35 @@ public interface ViewPublicEvent {
             /**
              * 视图和数据都懒加载模式
              */
-            LAZY_VIEW_AND_DATA
+            LAZY_VIEW_AND_DATA,
+            /**
+             * 屏幕外预加载模式
+             * <p>
+             * 适用于ViewPager页面：创建视图后以最低优先级异步加载布局，完成后分帧执行除权限申请外的初始化，
+             * 变为当前页时只需执行权限申请并完成懒加载。变为当前页时仍未加载完成，则提升为可见优先级并显示加载视图。
+             * 双向等待基类不支持预加载，按视图和数据都懒加载处理；DialogFragment按默认模式处理。
+             * </p>
+             */
+            PREFETCH
+        }
+
+        /**
+         * 初始化时机枚举
+         * <p>
+         * 定义了DEFAULT加载模式下initEvent的执行时机：
+         * FIRST_FRAME: 首帧绘制后立即执行，100毫秒内未绘制时兜底执行
+         * DELAY: 固定延时100毫秒执行
+         * </p>
+         */
+        enum InitPolicy {
+            /**
+             * 首帧绘制后执行
+             */
+            FIRST_FRAME,
+            /**
+             * 固定延时执行
+             */
+            DELAY
         }
     }
 
@@ -189,6 +251,40 @@ public interface ViewPublicEvent {
             return null;
         }
 
+        /**
+         * 是否分帧初始化
+         * <p>
+         * 开启后initEvent中的各阶段按优先级拆分为任务单元，分摊到多帧执行，
+         * 页面初始化完成标识在全部单元执行后才置为true。
+         * </p>
+         *
+         * @return 是否分帧初始化
+         */
+        default boolean isStagedInit() {
+            return false;
+        }
+
+        /**
+         * 获取分帧初始化的每帧预算
+         *
+         * @return 每帧预算，单位毫秒
+         */
+        default long getInitFrameBudgetMillis() {
+            return InitPipeline.DEFAULT_FRAME_BUDGET_MILLIS;
+        }
+
+        /**
+         * 注册分帧初始化任务
+         * <p>
+         * 开启分帧初始化时调用，可将耗时的初始化拆分为多个单元添加到流水线。
+         * </p>
+         *
+         * @param pipeline 初始化流水线
+         */
+        default void onCreateInitPipeline(@NonNull InitPipeline pipeline) {
+
+        }
+
         /**
          * 获取被永久拒绝的权限
          * <p>
@@ -267,10 +363,16 @@ public interface ViewPublicEvent {
 
         /**
          * Get view binding generics class type [ ].
+         * <p>
+         * 视图类型已改为由ViewBindingTypeManager按宿主类解析并缓存，基类不再调用此方法，重写不会生效。
+         * 动态布局请将泛型声明为ViewBinding并重写setBindViewClass。
+         * </p>
          *
          * @param o the o
          * @return the type [ ]
+         * @deprecated 基类不再调用，请使用 {@link #setBindViewClass()}
          */
+        @Deprecated
         default Type[] getViewBindingGenericsClass(Object o) {
             Type superClass = o.getClass().getGenericSuperclass();
             ParameterizedType parameterized = (ParameterizedType) superClass;
@@ -279,26 +381,22 @@ public interface ViewPublicEvent {
 
         /**
          * Init generics class class.
+         * <p>
+         * 按宿主类缓存解析结果，支持泛型中间基类，动态布局时每次通过setBindViewClass获取。
+         * </p>
          *
          * @param o the o
          * @return the class
          */
         default Class<VB> initViewBindingGenericsClass(Object o) {
-            Type[] types = getViewBindingGenericsClass(o);
-            for (Type type : types) {
-                Class<?> genericsCls = (Class<?>) type;
-                if (!ViewBinding.class.isAssignableFrom(genericsCls)) {
-                    continue;
-                }
-                if (genericsCls == ViewBinding.class) {
-                    genericsCls = setBindViewClass();
-                }
-                if (genericsCls == null) {
-                    throw new RuntimeException("实现动态ViewBinding，请重写setBindViewClass方法");
-                }
-                return (Class<VB>) genericsCls;
+            Class<?> genericsCls = ViewBindingTypeManager.INSTANCE.getBindingClass(o.getClass());
+            if (genericsCls == ViewBinding.class) {
+                genericsCls = setBindViewClass();
             }
-            throw new RuntimeException("传入的泛型未找到与ViewBinding相关的泛型超类，请检查参数或手动初始化ViewBinding");
+            if (genericsCls == null) {
+                throw new RuntimeException("实现动态ViewBinding，请重写setBindViewClass方法");
+            }
+            return (Class<VB>) genericsCls;
         }
 
         /**
@@ -310,6 +408,59 @@ public interface ViewPublicEvent {
             return null;
         }
 
+        /**
+         * 从预加载池取出视图
+         * <p>
+         * 池为空或动态布局未提供setBindViewClass时返回null，由调用方正常创建。
+         * </p>
+         *
+         * @param o       the o
+         * @param context 页面使用的Context
+         * @return 已预加载的ViewBinding，不存在返回null
+         */
+        default VB acquirePooledView(Object o, Context context) {
+            if (ViewBindingPool.INSTANCE.isEmpty()) {
+                return null;
+            }
+            Class<?> genericsCls = ViewBindingTypeManager.INSTANCE.getBindingClass(o.getClass());
+            if (genericsCls == ViewBinding.class) {
+                genericsCls = setBindViewClass();
+            }
+            if (genericsCls == null) {
+                return null;
+            }
+            VB binding = ViewBindingPool.INSTANCE.acquire(context, (Class<VB>) genericsCls);
+            if (binding != null) {
+                IdleInflateScheduler.INSTANCE.onBindingShown(context, (Class<VB>) genericsCls);
+            }
+            return binding;
+        }
+
+        /**
+         * 取用启动前预加载的Activity视图
+         * <p>
+         * 由 {@link ActivityBindingPrefetcher} 在startActivity前创建，不可用时返回null。
+         * </p>
+         *
+         * @param o          the o
+         * @param activity   目标Activity
+         * @param themeResId 目标Activity的initTheme返回值
+         * @return the vb
+         */
+        default VB acquirePrefetchedView(Object o, Activity activity, int themeResId) {
+            if (!ActivityBindingPrefetcher.INSTANCE.isPrefetched(activity)) {
+                return null;
+            }
+            Class<?> genericsCls = ViewBindingTypeManager.INSTANCE.getBindingClass(o.getClass());
+            if (genericsCls == ViewBinding.class) {
+                genericsCls = setBindViewClass();
+            }
+            if (genericsCls == null) {
+                return null;
+            }
+            return ActivityBindingPrefetcher.INSTANCE.adopt(activity, (Class<VB>) genericsCls, themeResId);
+        }
+
         /**
          * Inflate view vb.
          *
@@ -321,8 +472,7 @@ public interface ViewPublicEvent {
          * @throws NoSuchMethodException     the no such method exception
          */
         default VB inflateView(Object o, LayoutInflater layoutInflater) throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
-            Method inflateMethod = initViewBindingGenericsClass(o).getMethod("inflate", LayoutInflater.class);
-            return (VB) inflateMethod.invoke(null, layoutInflater);
+            return inflateView(o, layoutInflater, null, false);
         }
 
         /**
@@ -338,8 +488,12 @@ public interface ViewPublicEvent {
          * @throws NoSuchMethodException     the no such method exception
          */
         default VB inflateView(Object o, LayoutInflater layoutInflater, ViewGroup parent, boolean attachToParent) throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
-            Method inflateMethod = initViewBindingGenericsClass(o).getMethod("inflate", LayoutInflater.class, ViewGroup.class, boolean.class);
-            return (VB) inflateMethod.invoke(null, layoutInflater, parent, attachToParent);
+            Class<VB> cls = initViewBindingGenericsClass(o);
+            long start = System.nanoTime();
+            VB binding = ViewBindingFactoryManager.INSTANCE.inflate(cls, layoutInflater, parent, attachToParent);
+            InflateMetricsManager.INSTANCE.record(cls, InflateMetricsManager.Metric.INFLATE, System.nanoTime() - start);
+            IdleInflateScheduler.INSTANCE.onBindingShown(layoutInflater.getContext(), cls);
+            return binding;
         }
 
         /**
@@ -389,9 +543,27 @@ public interface ViewPublicEvent {
              */
             void dismissLoadView();
 
+            /**
+             * 是否在入场动画开始时执行initEvent
+             * <p>
+             * 默认在动画结束后执行，开启后初始化与动画同时进行，更早加载数据。
+             * </p>
+             *
+             * @return the boolean
+             */
+            default boolean isInitEventOnAnimStart() {
+                return false;
+            }
+
+            /**
+             * 入场动画，使用硬件层绘制，避免与初始化同时进行时掉帧
+             *
+             * @param view     the view
+             * @param callBack the call back
+             */
             default void startAsyncAnimSetView(View view, AsyncLoadViewAnimCallBack callBack) {
                 view.setAlpha(0);
-                view.animate().alpha(0).alpha(1).setDuration(500).setListener(new AnimatorListenerAdapter() {
+                view.animate().alpha(0).alpha(1).setDuration(500).withLayer().setListener(new AnimatorListenerAdapter() {
                     @Override
                     public void onAnimationStart(Animator animation) {
                         super.onAnimationStart(animation);
@@ -664,6 +836,28 @@ public interface ViewPublicEvent {
          */
         void initModelData();
 
+        /**
+         * 是否并行初始化ViewModel数据
+         * <p>
+         * 开启后，声明为后台安全的ViewModel的onModelInitData在后台线程池并行执行。
+         * </p>
+         *
+         * @return 是否并行初始化
+         */
+        default boolean isParallelInitData() {
+            return false;
+        }
+
+        /**
+         * 所有ViewModel的onModelInitData执行完成
+         * <p>
+         * 在主线程回调，页面已销毁时不回调。
+         * </p>
+         */
+        default void onModelInitDataFinished() {
+
+        }
+
         /**
          * Init model data.
          */
@@ -0,0 +1,39 @@
+package cn.com.shadowless.baseview.factory;
+
+import androidx.annotation.NonNull;
+import androidx.viewbinding.ViewBinding;
+
+import java.util.List;
+
+import cn.com.shadowless.baseview.event.UpdateReflectEvent;
+import cn.com.shadowless.baseview.manager.VmObjManager;
+
+/**
+ * 对象更新器
+ * <p>
+ * 由compiler模块在编译期为实现了UpdateObjEvent的类生成实现，
+ * 生成类与目标类同包，命名为 目标类二进制名 + {@link #GENERATED_SUFFIX}，
+ * 只处理目标类自身声明的需要更新的字段，非私有字段直接访问，私有字段使用一次性查找并缓存的Field，
+ * 避免运行时遍历全部字段。父类由 {@link cn.com.shadowless.baseview.event.UpdateObjEvent} 逐级处理。
+ * 也可手动实现后通过 {@link cn.com.shadowless.baseview.manager.ObjUpdaterManager#register} 注册。
+ * </p>
+ *
+ * @param <T> 目标类型
+ * @author sHadowLess
+ */
+public interface ObjUpdater<T> {
+
+    /**
+     * 编译期生成类的类名后缀
+     */
+    String GENERATED_SUFFIX = "_ObjUpdater";
+
+    /**
+     * 更新对象中目标类自身声明的字段
+     *
+     * @param obj     要更新的对象实例
+     * @param manager ViewModel对象管理器
+     * @param events  反射处理规则列表
+     */
+    void update(@NonNull T obj, @NonNull VmObjManager<? extends ViewBinding> manager, @NonNull List<UpdateReflectEvent> events);
+}
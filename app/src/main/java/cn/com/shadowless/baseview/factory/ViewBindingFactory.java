@@ -0,0 +1,39 @@
+package cn.com.shadowless.baseview.factory;
+
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.viewbinding.ViewBinding;
+
+/**
+ * ViewBinding创建工厂
+ * <p>
+ * 由compiler模块在编译期为基类子类使用到的ViewBinding生成实现，
+ * 生成类与ViewBinding同包，命名为 ViewBinding类名 + {@link #GENERATED_SUFFIX}，
+ * 通过直接调用ViewBinding的静态inflate方法创建实例，避免运行时反射查找和调用。
+ * 也可手动实现后通过 {@link cn.com.shadowless.baseview.manager.ViewBindingFactoryManager#register} 注册。
+ * </p>
+ *
+ * @param <VB> ViewBinding类型参数
+ * @author sHadowLess
+ */
+public interface ViewBindingFactory<VB extends ViewBinding> {
+
+    /**
+     * 编译期生成类的类名后缀
+     */
+    String GENERATED_SUFFIX = "_ViewBindingFactory";
+
+    /**
+     * 创建ViewBinding
+     *
+     * @param inflater       布局填充器
+     * @param parent         父容器
+     * @param attachToParent 是否添加至父容器
+     * @return ViewBinding实例
+     */
+    @NonNull
+    VB inflate(@NonNull LayoutInflater inflater, @Nullable ViewGroup parent, boolean attachToParent);
+}
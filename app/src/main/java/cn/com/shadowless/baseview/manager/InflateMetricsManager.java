@@ -0,0 +1,264 @@
+package cn.com.shadowless.baseview.manager;
+
+import androidx.annotation.NonNull;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 布局加载耗时统计管理器
+ * <p>
+ * 按ViewBinding类记录布局创建耗时、异步请求排队耗时和切回主线程耗时，
+ * 使用无锁的对数分桶直方图，可在运行时查询分位数或导出为JSON，用于定位线上加载缓慢的布局。
+ * </p>
+ *
+ * @author sHadowLess
+ */
+public enum InflateMetricsManager {
+
+    /**
+     * 布局加载耗时统计管理器单例实例
+     */
+    INSTANCE;
+
+    /**
+     * 分桶数量，第i个桶统计 [2^(i-1), 2^i) 微秒，最后一个桶包含更大的值
+     */
+    private static final int BUCKET_COUNT = 32;
+
+    /**
+     * 统计指标
+     */
+    public enum Metric {
+        /**
+         * 布局创建耗时
+         */
+        INFLATE("inflate"),
+        /**
+         * 异步请求排队耗时
+         */
+        QUEUE_WAIT("queueWait"),
+        /**
+         * 后台完成到主线程回调的耗时
+         */
+        HANDOFF("handoff");
+
+        /**
+         * JSON中的字段名
+         */
+        private final String key;
+
+        /**
+         * Instantiates a new Metric.
+         *
+         * @param key the key
+         */
+        Metric(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * ViewBinding类与统计数据的映射
+     */
+    private final ConcurrentHashMap<Class<?>, Histogram[]> histogramMap = new ConcurrentHashMap<>();
+
+    /**
+     * 是否开启统计
+     */
+    private volatile boolean enable = true;
+
+    /**
+     * 对数分桶直方图
+     */
+    private static final class Histogram {
+        /**
+         * 分桶计数
+         */
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+        /**
+         * 总次数
+         */
+        private final AtomicLong count = new AtomicLong();
+        /**
+         * 总耗时，单位微秒
+         */
+        private final AtomicLong total = new AtomicLong();
+        /**
+         * 最大耗时，单位微秒
+         */
+        private final AtomicLong max = new AtomicLong();
+
+        /**
+         * 记录一次耗时
+         *
+         * @param micros 耗时，单位微秒
+         */
+        private void record(long micros) {
+            int index = Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+            buckets.incrementAndGet(index);
+            count.incrementAndGet();
+            total.addAndGet(micros);
+            long current = max.get();
+            while (micros > current && !max.compareAndSet(current, micros)) {
+                current = max.get();
+            }
+        }
+
+        /**
+         * 获取分位数
+         *
+         * @param percentile 分位，0-1之间
+         * @return 所在分桶的上界，单位微秒
+         */
+        private long percentile(double percentile) {
+            long size = count.get();
+            if (size == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(size * percentile));
+            long cumulative = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                cumulative += buckets.get(i);
+                if (cumulative >= target) {
+                    return Math.min(1L << i, max.get());
+                }
+            }
+            return max.get();
+        }
+
+        /**
+         * 转换为JSON
+         *
+         * @return the json object
+         * @throws JSONException the json exception
+         */
+        private JSONObject toJson() throws JSONException {
+            JSONObject object = new JSONObject();
+            object.put("count", count.get());
+            object.put("totalUs", total.get());
+            object.put("maxUs", max.get());
+            object.put("p50Us", percentile(0.5));
+            object.put("p90Us", percentile(0.9));
+            object.put("p99Us", percentile(0.99));
+            JSONArray array = new JSONArray();
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                array.put(buckets.get(i));
+            }
+            object.put("buckets", array);
+            return object;
+        }
+    }
+
+    /**
+     * 设置是否开启统计
+     *
+     * @param enable 是否开启
+     */
+    public void setEnable(boolean enable) {
+        this.enable = enable;
+    }
+
+    /**
+     * 是否开启统计
+     *
+     * @return the boolean
+     */
+    public boolean isEnable() {
+        return enable;
+    }
+
+    /**
+     * 记录耗时
+     *
+     * @param cls    ViewBinding类
+     * @param metric 统计指标
+     * @param nanos  耗时，单位纳秒
+     */
+    public void record(@NonNull Class<?> cls, @NonNull Metric metric, long nanos) {
+        if (!enable || nanos < 0) {
+            return;
+        }
+        getHistograms(cls)[metric.ordinal()].record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * 获取记录次数
+     *
+     * @param cls    ViewBinding类
+     * @param metric 统计指标
+     * @return 记录次数
+     */
+    public long getCount(@NonNull Class<?> cls, @NonNull Metric metric) {
+        Histogram[] histograms = histogramMap.get(cls);
+        return histograms == null ? 0 : histograms[metric.ordinal()].count.get();
+    }
+
+    /**
+     * 获取分位耗时
+     *
+     * @param cls        ViewBinding类
+     * @param metric     统计指标
+     * @param percentile 分位，0-1之间，如0.9表示P90
+     * @return 所在分桶的上界，单位微秒
+     */
+    public long getPercentile(@NonNull Class<?> cls, @NonNull Metric metric, double percentile) {
+        Histogram[] histograms = histogramMap.get(cls);
+        return histograms == null ? 0 : histograms[metric.ordinal()].percentile(percentile);
+    }
+
+    /**
+     * 导出全部统计数据
+     *
+     * @return 以ViewBinding完整类名为键的JSON字符串
+     */
+    @NonNull
+    public String dumpJson() {
+        JSONObject root = new JSONObject();
+        try {
+            for (Map.Entry<Class<?>, Histogram[]> entry : histogramMap.entrySet()) {
+                JSONObject object = new JSONObject();
+                for (Metric metric : Metric.values()) {
+                    object.put(metric.key, entry.getValue()[metric.ordinal()].toJson());
+                }
+                root.put(entry.getKey().getName(), object);
+            }
+        } catch (JSONException e) {
+            throw new RuntimeException("布局加载耗时导出失败：" + e.getMessage());
+        }
+        return root.toString();
+    }
+
+    /**
+     * 清空统计数据
+     */
+    public void reset() {
+        histogramMap.clear();
+    }
+
+    /**
+     * 获取ViewBinding类的统计数据
+     *
+     * @param cls ViewBinding类
+     * @return 各指标的直方图
+     */
+    private Histogram[] getHistograms(Class<?> cls) {
+        Histogram[] histograms = histogramMap.get(cls);
+        if (histograms != null) {
+            return histograms;
+        }
+        histograms = new Histogram[Metric.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new Histogram();
+        }
+        Histogram[] old = histogramMap.putIfAbsent(cls, histograms);
+        return old != null ? old : histograms;
+    }
+}
@@ -22,6 +22,7 @@ public class MultiDataViewDataManager implements LifecycleEventObserver {
     private final Handler handler = new Handler(Looper.getMainLooper());
     private final Map<DataKey<?>, DataState<?>> dataStates = new ConcurrentHashMap<>();
     private LifecycleOwner owner;
+    private RetainCondition retainCondition;
 
     /**
      * 数据键，用于标识不同类型或同类型的不同数据
@@ -70,6 +71,21 @@ public class MultiDataViewDataManager implements LifecycleEventObserver {
         void bindEvent(@NonNull DataKey<T> key, @Nullable T data);
     }
 
+    /**
+     * 数据保留条件
+     * <p>
+     * 生命周期销毁时判断是否保留已设置的数据，用于配置变更后将数据重新绑定到新视图。
+     * </p>
+     */
+    public interface RetainCondition {
+        /**
+         * 是否保留数据
+         *
+         * @return the boolean
+         */
+        boolean isRetain();
+    }
+
     /**
      * 设置指定key的数据源
      * <p>
@@ -145,7 +161,22 @@ public class MultiDataViewDataManager implements LifecycleEventObserver {
      * 绑定生命周期
      */
     public void bindLifecycleOwner(LifecycleOwner owner) {
+        bindLifecycleOwner(owner, null);
+    }
+
+    /**
+     * 绑定生命周期
+     * <p>
+     * 销毁时满足保留条件则只解除视图，保留已设置的数据和绑定器状态，
+     * 重新绑定生命周期并调用resetAllBindState后，新视图就绪时重新绑定。
+     * </p>
+     *
+     * @param owner           生命周期
+     * @param retainCondition 数据保留条件，为null时销毁即清空数据
+     */
+    public void bindLifecycleOwner(LifecycleOwner owner, @Nullable RetainCondition retainCondition) {
         this.owner = owner;
+        this.retainCondition = retainCondition;
         this.owner.getLifecycle().addObserver(this);
     }
 
@@ -225,6 +256,23 @@ public class MultiDataViewDataManager implements LifecycleEventObserver {
         }
     }
 
+    /**
+     * 重置所有绑定状态，保留已设置的数据
+     * <p>
+     * 用于页面重建后将已有数据重新绑定到新视图。
+     * </p>
+     */
+    public void resetAllBindState() {
+        lock.writeLock().lock();
+        try {
+            for (DataState<?> state : dataStates.values()) {
+                state.bound.set(false);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
     /**
      * 重置状态，用于重新绑定
      */
@@ -275,9 +323,13 @@ public class MultiDataViewDataManager implements LifecycleEventObserver {
                 if (this.owner != null) {
                     this.owner.getLifecycle().removeObserver(this);
                 }
+                this.owner = null;
+                if (retainCondition != null && retainCondition.isRetain()) {
+                    viewReady.set(false);
+                    return;
+                }
                 isDestroyed.set(true);
                 dataStates.clear();
-                this.owner = null;
             } finally {
                 lock.writeLock().unlock();
             }
@@ -0,0 +1,287 @@
+package cn.com.shadowless.baseview.manager;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.viewbinding.ViewBinding;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cn.com.shadowless.baseview.annotation.UpdateReflect;
+import cn.com.shadowless.baseview.event.UpdateObjEvent;
+import cn.com.shadowless.baseview.event.UpdateReflectEvent;
+import cn.com.shadowless.baseview.factory.ObjUpdater;
+
+/**
+ * 对象更新器管理器
+ * <p>
+ * 按类缓存编译期生成或手动注册的 {@link ObjUpdater}，类名查找只进行一次。
+ * 未找到时回退为反射更新器：只在首次使用时遍历一次字段，缓存已设置可访问的相关字段。
+ * 同时记录当前线程一次更新过程中已访问的对象，共享或循环引用的对象只更新一次。
+ * 另提供生成类使用的字段读取和更新方法。
+ * </p>
+ *
+ * @author sHadowLess
+ */
+public enum ObjUpdaterManager {
+
+    /**
+     * 对象更新器管理器单例实例
+     */
+    INSTANCE;
+
+    /**
+     * 类与更新器的映射
+     */
+    private final ConcurrentHashMap<Class<?>, ObjUpdater<?>> updaterMap = new ConcurrentHashMap<>();
+
+    /**
+     * 当前线程的更新过程
+     */
+    private final ThreadLocal<Traversal> traversal = new ThreadLocal<Traversal>() {
+        @Override
+        protected Traversal initialValue() {
+            return new Traversal();
+        }
+    };
+
+    /**
+     * 一次更新过程
+     */
+    private static final class Traversal {
+        /**
+         * 已访问的对象，按引用判断
+         */
+        private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        /**
+         * 嵌套深度
+         */
+        private int depth = 0;
+    }
+
+    /**
+     * 反射更新器
+     * <p>
+     * 未生成更新器时使用，创建时遍历一次类声明的字段，
+     * 只保留被@UpdateReflect注解标记或声明类型实现UpdateObjEvent的字段。
+     * </p>
+     */
+    private static final class ReflectUpdater implements ObjUpdater<Object> {
+        /**
+         * 需要更新的字段
+         */
+        private final Field[] fields;
+        /**
+         * 对应字段是否被@UpdateReflect注解标记
+         */
+        private final boolean[] reflects;
+
+        /**
+         * Instantiates a new Reflect updater.
+         *
+         * @param cls 目标类
+         */
+        private ReflectUpdater(Class<?> cls) {
+            List<Field> fieldList = new ArrayList<>();
+            List<Boolean> reflectList = new ArrayList<>();
+            for (Field field : cls.getDeclaredFields()) {
+                boolean isReflect = field.isAnnotationPresent(UpdateReflect.class);
+                if (!isReflect && !UpdateObjEvent.class.isAssignableFrom(field.getType())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                fieldList.add(field);
+                reflectList.add(isReflect);
+            }
+            fields = fieldList.toArray(new Field[0]);
+            reflects = new boolean[fields.length];
+            for (int i = 0; i < reflects.length; i++) {
+                reflects[i] = reflectList.get(i);
+            }
+        }
+
+        @Override
+        public void update(@NonNull Object obj, @NonNull VmObjManager<? extends ViewBinding> manager, @NonNull List<UpdateReflectEvent> events) {
+            for (int i = 0; i < fields.length; i++) {
+                Object value = getValue(fields[i], obj);
+                if (reflects[i]) {
+                    updateReflect(value, manager, events);
+                } else {
+                    updateObj(value, manager);
+                }
+            }
+        }
+    }
+
+    /**
+     * 手动注册对象更新器
+     * <p>
+     * 适用于无法使用注解处理器的场景，注册后覆盖已缓存的更新器。
+     * 更新器只需处理该类自身声明的字段。
+     * </p>
+     *
+     * @param <T>     目标类型
+     * @param cls     目标类
+     * @param updater 更新器
+     */
+    public <T> void register(@NonNull Class<T> cls, @NonNull ObjUpdater<? super T> updater) {
+        updaterMap.put(cls, updater);
+    }
+
+    /**
+     * 获取对象更新器
+     * <p>
+     * 不存在生成类且未注册时返回缓存的反射更新器。
+     * </p>
+     *
+     * @param cls 目标类
+     * @return 更新器
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public ObjUpdater<Object> getUpdater(@NonNull Class<?> cls) {
+        ObjUpdater<?> updater = updaterMap.get(cls);
+        if (updater == null) {
+            updater = findGeneratedUpdater(cls);
+            if (updater == null) {
+                updater = new ReflectUpdater(cls);
+            }
+            ObjUpdater<?> old = updaterMap.putIfAbsent(cls, updater);
+            if (old != null) {
+                updater = old;
+            }
+        }
+        return (ObjUpdater<Object>) updater;
+    }
+
+    /**
+     * 开始更新对象
+     * <p>
+     * 记录到当前线程的更新过程中，需与 {@link #exit()} 成对调用。
+     * </p>
+     *
+     * @param obj 要更新的对象
+     * @return 本次更新过程中已更新过该对象时返回false
+     */
+    public boolean enter(@NonNull Object obj) {
+        Traversal current = traversal.get();
+        if (!current.visited.add(obj)) {
+            return false;
+        }
+        current.depth++;
+        return true;
+    }
+
+    /**
+     * 结束更新对象
+     * <p>
+     * 最外层对象更新结束时清空已访问记录，下次更新重新开始。
+     * </p>
+     */
+    public void exit() {
+        Traversal current = traversal.get();
+        if (--current.depth <= 0) {
+            current.depth = 0;
+            current.visited.clear();
+        }
+    }
+
+    /**
+     * 查找编译期生成的更新器
+     * <p>
+     * 生成类初始化失败（如私有字段被混淆改名）时同样回退为反射。
+     * </p>
+     *
+     * @param cls 目标类
+     * @return 生成的更新器，未找到返回null
+     */
+    @Nullable
+    private ObjUpdater<?> findGeneratedUpdater(@NonNull Class<?> cls) {
+        ClassLoader classLoader = cls.getClassLoader();
+        if (classLoader == null || cls.isInterface()) {
+            return null;
+        }
+        try {
+            Class<?> updaterCls = Class.forName(cls.getName() + ObjUpdater.GENERATED_SUFFIX, true, classLoader);
+            return (ObjUpdater<?>) updaterCls.getDeclaredConstructor().newInstance();
+        } catch (Exception | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * 查找私有字段
+     * <p>
+     * 供生成类初始化时调用，只查找一次。
+     * </p>
+     *
+     * @param cls  声明字段的类
+     * @param name 字段名
+     * @return 已设置可访问的字段
+     */
+    @NonNull
+    public static Field getField(@NonNull Class<?> cls, @NonNull String name) {
+        try {
+            Field field = cls.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new RuntimeException("未找到字段" + cls.getName() + "." + name + "：" + e.getMessage());
+        }
+    }
+
+    /**
+     * 读取字段值
+     *
+     * @param field 字段
+     * @param obj   对象实例，静态字段传null
+     * @return 字段值
+     */
+    @Nullable
+    public static Object getValue(@NonNull Field field, @Nullable Object obj) {
+        try {
+            return field.get(obj);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 更新实现了UpdateObjEvent的字段值
+     *
+     * @param value   字段值
+     * @param manager ViewModel对象管理器
+     */
+    public static void updateObj(@Nullable Object value, @NonNull VmObjManager<? extends ViewBinding> manager) {
+        if (value != null) {
+            ((UpdateObjEvent) value).update(manager);
+        }
+    }
+
+    /**
+     * 更新被@UpdateReflect注解标记的字段值
+     * <p>
+     * 依次使用反射规则获取实际对象，实现了UpdateObjEvent时执行更新。
+     * </p>
+     *
+     * @param value   字段值
+     * @param manager ViewModel对象管理器
+     * @param events  反射处理规则列表
+     */
+    public static void updateReflect(@Nullable Object value, @NonNull VmObjManager<? extends ViewBinding> manager, @NonNull List<UpdateReflectEvent> events) {
+        if (value == null) {
+            return;
+        }
+        for (UpdateReflectEvent event : events) {
+            Object tempObj = event.getActualObject(value);
+            if (tempObj instanceof UpdateObjEvent) {
+                ((UpdateObjEvent) tempObj).update(manager);
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package cn.com.shadowless.baseview.manager;
+
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.viewbinding.ViewBinding;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cn.com.shadowless.baseview.factory.ViewBindingFactory;
+
+/**
+ * ViewBinding工厂管理器
+ * <p>
+ * 按ViewBinding类缓存创建入口，优先使用编译期生成或手动注册的 {@link ViewBindingFactory} 直接创建，
+ * 未找到工厂时才回退到反射调用inflate方法，且反射方法只查找一次。
+ * </p>
+ *
+ * @author sHadowLess
+ */
+public enum ViewBindingFactoryManager {
+
+    /**
+     * ViewBinding工厂管理器单例实例
+     */
+    INSTANCE;
+
+    /**
+     * ViewBinding类与创建入口的映射
+     */
+    private final ConcurrentHashMap<Class<?>, InflateEntry> entryMap = new ConcurrentHashMap<>();
+
+    /**
+     * 创建入口
+     * <p>
+     * factory与method二者只会存在一个，factory为空时表示使用反射方式创建。
+     * </p>
+     */
+    private static final class InflateEntry {
+        /**
+         * 生成或注册的工厂
+         */
+        private final ViewBindingFactory<?> factory;
+        /**
+         * 反射获取的inflate方法
+         */
+        private final Method method;
+
+        /**
+         * Instantiates a new Inflate entry.
+         *
+         * @param factory the factory
+         * @param method  the method
+         */
+        private InflateEntry(ViewBindingFactory<?> factory, Method method) {
+            this.factory = factory;
+            this.method = method;
+        }
+    }
+
+    /**
+     * 手动注册ViewBinding工厂
+     * <p>
+     * 适用于无法使用注解处理器的场景，注册后覆盖已缓存的创建入口。
+     * </p>
+     *
+     * @param <VB>    ViewBinding类型参数
+     * @param cls     ViewBinding类
+     * @param factory 工厂
+     */
+    public <VB extends ViewBinding> void register(@NonNull Class<VB> cls, @NonNull ViewBindingFactory<VB> factory) {
+        entryMap.put(cls, new InflateEntry(factory, null));
+    }
+
+    /**
+     * 获取ViewBinding工厂
+     *
+     * @param <VB> ViewBinding类型参数
+     * @param cls  ViewBinding类
+     * @return 工厂，若不存在生成类且未注册则返回null
+     * @throws NoSuchMethodException 回退反射时未找到inflate方法
+     */
+    @Nullable
+    public <VB extends ViewBinding> ViewBindingFactory<VB> getFactory(@NonNull Class<VB> cls) throws NoSuchMethodException {
+        return (ViewBindingFactory<VB>) getEntry(cls).factory;
+    }
+
+    /**
+     * 创建ViewBinding
+     * <p>
+     * 存在工厂时直接调用，否则使用缓存的inflate方法反射创建。
+     * 工厂抛出的异常包装为InvocationTargetException，与反射创建失败时一致。
+     * </p>
+     *
+     * @param <VB>           ViewBinding类型参数
+     * @param cls            ViewBinding类
+     * @param inflater       布局填充器
+     * @param parent         父容器
+     * @param attachToParent 是否添加至父容器
+     * @return ViewBinding实例
+     * @throws InvocationTargetException the invocation target exception
+     * @throws IllegalAccessException    the illegal access exception
+     * @throws NoSuchMethodException     the no such method exception
+     */
+    public <VB extends ViewBinding> VB inflate(@NonNull Class<VB> cls, @NonNull LayoutInflater inflater, @Nullable ViewGroup parent, boolean attachToParent) throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
+        InflateEntry entry = getEntry(cls);
+        if (entry.factory != null) {
+            try {
+                return ((ViewBindingFactory<VB>) entry.factory).inflate(inflater, parent, attachToParent);
+            } catch (RuntimeException e) {
+                //与反射调用保持一致，创建失败统一包装为InvocationTargetException
+                throw new InvocationTargetException(e);
+            }
+        }
+        return (VB) entry.method.invoke(null, inflater, parent, attachToParent);
+    }
+
+    /**
+     * 获取创建入口
+     *
+     * @param cls ViewBinding类
+     * @return 创建入口
+     * @throws NoSuchMethodException 回退反射时未找到inflate方法
+     */
+    private InflateEntry getEntry(@NonNull Class<?> cls) throws NoSuchMethodException {
+        InflateEntry entry = entryMap.get(cls);
+        if (entry != null) {
+            return entry;
+        }
+        ViewBindingFactory<?> factory = findGeneratedFactory(cls);
+        if (factory != null) {
+            entry = new InflateEntry(factory, null);
+        } else {
+            entry = new InflateEntry(null, cls.getMethod("inflate", LayoutInflater.class, ViewGroup.class, boolean.class));
+        }
+        InflateEntry old = entryMap.putIfAbsent(cls, entry);
+        return old != null ? old : entry;
+    }
+
+    /**
+     * 查找编译期生成的工厂
+     *
+     * @param cls ViewBinding类
+     * @return 生成的工厂，未找到返回null
+     */
+    @Nullable
+    private ViewBindingFactory<?> findGeneratedFactory(@NonNull Class<?> cls) {
+        try {
+            Class<?> factoryCls = Class.forName(cls.getName() + ViewBindingFactory.GENERATED_SUFFIX, true, cls.getClassLoader());
+            return (ViewBindingFactory<?>) factoryCls.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException |
+                 InstantiationException | InvocationTargetException | ClassCastException e) {
+            return null;
+        }
+    }
+}
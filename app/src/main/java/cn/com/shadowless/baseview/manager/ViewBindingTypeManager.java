@@ -0,0 +1,204 @@
+package cn.com.shadowless.baseview.manager;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.viewbinding.ViewBinding;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cn.com.shadowless.baseview.event.ViewPublicEvent;
+
+/**
+ * ViewBinding泛型解析管理器
+ * <p>
+ * 以具体的Activity/Fragment/Dialog类为键缓存其绑定的ViewBinding类。
+ * 首次解析时沿完整继承链查找InitViewBinding，并将泛型变量逐级代入中间的泛型基类，
+ * 同时预热该ViewBinding在 {@link ViewBindingFactoryManager} 中的创建入口，
+ * 此后同类页面重建只需一次查表。
+ * </p>
+ *
+ * @author sHadowLess
+ */
+public enum ViewBindingTypeManager {
+
+    /**
+     * ViewBinding泛型解析管理器单例实例
+     */
+    INSTANCE;
+
+    /**
+     * 宿主类与ViewBinding类的映射
+     * <p>
+     * 值为ViewBinding.class时表示动态布局，需由setBindViewClass提供实际类型。
+     * </p>
+     */
+    private final ConcurrentHashMap<Class<?>, Class<?>> bindingClassMap = new ConcurrentHashMap<>();
+
+    /**
+     * 获取宿主类绑定的ViewBinding类
+     *
+     * @param hostCls 宿主类
+     * @return ViewBinding类，动态布局时返回ViewBinding.class
+     * @throws RuntimeException 继承链中未找到与ViewBinding相关的泛型
+     */
+    @NonNull
+    public Class<?> getBindingClass(@NonNull Class<?> hostCls) {
+        Class<?> bindingCls = bindingClassMap.get(hostCls);
+        if (bindingCls != null) {
+            return bindingCls;
+        }
+        bindingCls = resolve(hostCls);
+        if (bindingCls == null) {
+            throw new RuntimeException("传入的泛型未找到与ViewBinding相关的泛型超类，请检查参数或手动初始化ViewBinding");
+        }
+        if (bindingCls != ViewBinding.class) {
+            try {
+                ViewBindingFactoryManager.INSTANCE.getFactory((Class<? extends ViewBinding>) bindingCls);
+            } catch (NoSuchMethodException ignored) {
+                //创建入口不存在时，交由实际创建时抛出
+            }
+        }
+        Class<?> old = bindingClassMap.putIfAbsent(hostCls, bindingCls);
+        return old != null ? old : bindingCls;
+    }
+
+    /**
+     * 解析宿主类绑定的ViewBinding类
+     *
+     * @param hostCls 宿主类
+     * @return ViewBinding类，未找到返回null
+     */
+    @Nullable
+    private Class<?> resolve(@NonNull Class<?> hostCls) {
+        Type type = findBindingType(hostCls, new HashMap<>());
+        if (type != null) {
+            Class<?> cls = toClass(type);
+            if (cls != null && ViewBinding.class.isAssignableFrom(cls)) {
+                return cls;
+            }
+            return null;
+        }
+        //未实现InitViewBinding时，保持原有的直接父类泛型扫描
+        Type superClass = hostCls.getGenericSuperclass();
+        if (!(superClass instanceof ParameterizedType)) {
+            return null;
+        }
+        for (Type arg : ((ParameterizedType) superClass).getActualTypeArguments()) {
+            Class<?> cls = toClass(arg);
+            if (cls != null && ViewBinding.class.isAssignableFrom(cls)) {
+                return cls;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 沿继承链查找InitViewBinding的泛型实参
+     *
+     * @param cls      当前类
+     * @param variable 当前类泛型变量与实际类型的映射
+     * @return InitViewBinding的泛型实参，未找到返回null
+     */
+    @Nullable
+    private Type findBindingType(@NonNull Class<?> cls, @NonNull Map<TypeVariable<?>, Type> variable) {
+        Type superClass = cls.getGenericSuperclass();
+        Type result = findBindingType(superClass, variable);
+        if (result != null) {
+            return result;
+        }
+        for (Type type : cls.getGenericInterfaces()) {
+            result = findBindingType(type, variable);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 在父类型中查找InitViewBinding的泛型实参
+     *
+     * @param type     父类型
+     * @param variable 子类泛型变量与实际类型的映射
+     * @return InitViewBinding的泛型实参，未找到返回null
+     */
+    @Nullable
+    private Type findBindingType(@Nullable Type type, @NonNull Map<TypeVariable<?>, Type> variable) {
+        if (type instanceof Class) {
+            Class<?> raw = (Class<?>) type;
+            if (raw == ViewPublicEvent.InitViewBinding.class) {
+                return ViewBinding.class;
+            }
+            if (!ViewPublicEvent.InitViewBinding.class.isAssignableFrom(raw)) {
+                return null;
+            }
+            return findBindingType(raw, new HashMap<>());
+        }
+        if (!(type instanceof ParameterizedType)) {
+            return null;
+        }
+        ParameterizedType parameterized = (ParameterizedType) type;
+        Class<?> raw = (Class<?>) parameterized.getRawType();
+        if (!ViewPublicEvent.InitViewBinding.class.isAssignableFrom(raw)) {
+            return null;
+        }
+        Type[] args = parameterized.getActualTypeArguments();
+        if (raw == ViewPublicEvent.InitViewBinding.class) {
+            return substitute(args[0], variable);
+        }
+        TypeVariable<?>[] params = raw.getTypeParameters();
+        Map<TypeVariable<?>, Type> next = new HashMap<>();
+        for (int i = 0; i < params.length && i < args.length; i++) {
+            next.put(params[i], substitute(args[i], variable));
+        }
+        return findBindingType(raw, next);
+    }
+
+    /**
+     * 代入泛型变量
+     *
+     * @param type     类型
+     * @param variable 泛型变量与实际类型的映射
+     * @return 代入后的类型
+     */
+    private Type substitute(Type type, Map<TypeVariable<?>, Type> variable) {
+        if (type instanceof TypeVariable && variable.containsKey(type)) {
+            return variable.get(type);
+        }
+        return type;
+    }
+
+    /**
+     * 类型转换为Class
+     * <p>
+     * 未能代入的泛型变量取其上界。
+     * </p>
+     *
+     * @param type 类型
+     * @return Class，无法转换返回null
+     */
+    @Nullable
+    private Class<?> toClass(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (type instanceof TypeVariable) {
+            Type[] bounds = ((TypeVariable<?>) type).getBounds();
+            return bounds.length > 0 ? toClass(bounds[0]) : null;
+        }
+        if (type instanceof WildcardType) {
+            Type[] bounds = ((WildcardType) type).getUpperBounds();
+            return bounds.length > 0 ? toClass(bounds[0]) : null;
+        }
+        return null;
+    }
+}
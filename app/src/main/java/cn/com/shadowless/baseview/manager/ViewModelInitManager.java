@@ -0,0 +1,164 @@
+package cn.com.shadowless.baseview.manager;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import cn.com.shadowless.baseview.event.ViewModelEvent;
+
+/**
+ * ViewModel数据初始化管理器
+ * <p>
+ * 将声明为后台安全的ViewModel的onModelInitData分发到固定大小的线程池并行执行，
+ * 其余ViewModel仍按顺序在主线程执行，全部完成后在主线程回调。
+ * </p>
+ *
+ * @author sHadowLess
+ */
+public enum ViewModelInitManager {
+
+    /**
+     * ViewModel数据初始化管理器单例实例
+     */
+    INSTANCE;
+
+    /**
+     * 获得当前CPU的核心数
+     */
+    private static final int CPU_COUNT = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 线程数在2-4之间，取决于CPU核数
+     */
+    private static final int POOL_SIZE = Math.max(2, Math.min(CPU_COUNT - 1, 4));
+
+    /**
+     * 线程池空闲线程存活时间30s
+     */
+    private static final int KEEP_ALIVE_SECONDS = 30;
+
+    /**
+     * 主线程Handler
+     */
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * 线程工厂
+     */
+    private static final ThreadFactory THREAD_FACTORY = new ThreadFactory() {
+        private final AtomicInteger mCount = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            return new Thread(r, "ViewModelInit #" + mCount.getAndIncrement());
+        }
+    };
+
+    /**
+     * 固定线程数的线程池，懒加载
+     */
+    private volatile ThreadPoolExecutor executor;
+
+    /**
+     * 初始化数据结果回调
+     * <p>
+     * 均在主线程回调，调用方可先判断页面是否仍然存活再处理。
+     * </p>
+     */
+    public interface OnInitDataListener {
+        /**
+         * 全部ViewModel初始化数据完成
+         */
+        void onInitDataFinished();
+
+        /**
+         * 后台初始化数据出现异常
+         *
+         * @param e 第一个出现的异常
+         */
+        void onInitDataError(@NonNull Throwable e);
+    }
+
+    /**
+     * 获取线程池
+     *
+     * @return the thread pool executor
+     */
+    private ThreadPoolExecutor getExecutor() {
+        if (executor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    ThreadPoolExecutor pool = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(), THREAD_FACTORY);
+                    pool.allowCoreThreadTimeOut(true);
+                    executor = pool;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * 初始化ViewModel数据
+     * <p>
+     * 先将后台安全的ViewModel提交到线程池，再在主线程按顺序执行其余ViewModel，
+     * 所有ViewModel完成后在主线程回调。后台执行出现异常时通过onInitDataError在主线程回调，
+     * 不直接抛出，避免页面已销毁时仍然崩溃。
+     * </p>
+     *
+     * @param models   ViewModel集合
+     * @param listener 结果回调
+     */
+    @MainThread
+    public void initData(@NonNull List<? extends ViewModelEvent> models, @NonNull OnInitDataListener listener) {
+        List<ViewModelEvent> backgroundList = new ArrayList<>();
+        List<ViewModelEvent> mainList = new ArrayList<>();
+        for (ViewModelEvent model : models) {
+            if (model.isInitDataBackgroundSafe()) {
+                backgroundList.add(model);
+            } else {
+                mainList.add(model);
+            }
+        }
+        //主线程部分也计入一次，保证其执行完成后才回调
+        AtomicInteger remaining = new AtomicInteger(backgroundList.size() + 1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Runnable finish = () -> {
+            Throwable e = error.get();
+            if (e != null) {
+                listener.onInitDataError(e);
+                return;
+            }
+            listener.onInitDataFinished();
+        };
+        for (ViewModelEvent model : backgroundList) {
+            getExecutor().execute(() -> {
+                try {
+                    model.onModelInitData();
+                } catch (Throwable e) {
+                    error.compareAndSet(null, e);
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    mainHandler.post(finish);
+                }
+            });
+        }
+        for (ViewModelEvent model : mainList) {
+            model.onModelInitData();
+        }
+        if (remaining.decrementAndGet() == 0) {
+            finish.run();
+        }
+    }
+}
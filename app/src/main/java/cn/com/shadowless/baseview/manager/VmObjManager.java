@@ -2,18 +2,20 @@ package cn.com.shadowless.baseview.manager;
 
 import android.app.Activity;
 
+import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
 import androidx.lifecycle.LifecycleOwner;
 import androidx.viewbinding.ViewBinding;
 
 import java.lang.ref.WeakReference;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * ViewModel对象资源管理器
  * <p>
  * 管理ViewModel相关的各种资源，包括Activity、Fragment、LifecycleOwner和ViewBinding等。
- * 使用WeakReference避免内存泄漏，使用读写锁保证线程安全。
+ * 使用WeakReference避免内存泄漏。所有资源保存在不可变的快照中，通过原子引用整体发布，
+ * 读取只需一次volatile读，不加锁；修改时生成新快照，未变化的资源沿用原有弱引用。
  * </p>
  *
  * @param <VB> ViewBinding类型参数
@@ -22,54 +24,74 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 public class VmObjManager<VB extends ViewBinding> {
 
     /**
-     * 当前Activity的弱引用
-     * <p>
-     * 使用WeakReference避免持有Activity的强引用导致内存泄漏。
-     * </p>
-     */
-    private volatile WeakReference<Activity> currentActivityWeakRef;
-    
-    /**
-     * 当前Fragment的弱引用
-     * <p>
-     * 使用WeakReference避免持有Fragment的强引用导致内存泄漏。
-     * </p>
+     * 当前资源快照
      */
-    private volatile WeakReference<Fragment> currentFragmentWeakRef;
-    
-    /**
-     * 当前LifecycleOwner的弱引用
-     * <p>
-     * 使用WeakReference避免持有LifecycleOwner的强引用导致内存泄漏。
-     * </p>
-     */
-    private volatile WeakReference<LifecycleOwner> currentLifecycleOwnerWeakRef;
-    
+    private final AtomicReference<Scope<VB>> scopeRef = new AtomicReference<>(new Scope<>(null, null, null, null));
+
     /**
-     * 当前ViewBinding的弱引用
+     * 资源快照
      * <p>
-     * 使用WeakReference避免持有ViewBinding的强引用导致内存泄漏。
+     * 创建后不再修改，各资源均以WeakReference保存，避免持有强引用导致内存泄漏。
      * </p>
+     *
+     * @param <VB> ViewBinding类型参数
      */
-    private volatile WeakReference<VB> currentViewBindingWeakRef;
-    
+    private static final class Scope<VB extends ViewBinding> {
+        /**
+         * 当前Activity的弱引用
+         */
+        private final WeakReference<Activity> activityRef;
+        /**
+         * 当前Fragment的弱引用
+         */
+        private final WeakReference<Fragment> fragmentRef;
+        /**
+         * 当前LifecycleOwner的弱引用
+         */
+        private final WeakReference<LifecycleOwner> lifecycleOwnerRef;
+        /**
+         * 当前ViewBinding的弱引用
+         */
+        private final WeakReference<VB> viewBindingRef;
+
+        /**
+         * Instantiates a new Scope.
+         *
+         * @param activityRef       the activity ref
+         * @param fragmentRef       the fragment ref
+         * @param lifecycleOwnerRef the lifecycle owner ref
+         * @param viewBindingRef    the view binding ref
+         */
+        private Scope(WeakReference<Activity> activityRef, WeakReference<Fragment> fragmentRef,
+                      WeakReference<LifecycleOwner> lifecycleOwnerRef, WeakReference<VB> viewBindingRef) {
+            this.activityRef = activityRef;
+            this.fragmentRef = fragmentRef;
+            this.lifecycleOwnerRef = lifecycleOwnerRef;
+            this.viewBindingRef = viewBindingRef;
+        }
+    }
+
     /**
-     * 读写锁
+     * 设置全部资源
      * <p>
-     * 用于保证多线程环境下的线程安全。
+     * 一次性生成并发布新快照，替代依次调用各set方法。
      * </p>
+     *
+     * @param activity       当前Activity实例
+     * @param fragment       当前Fragment实例，Activity中传null
+     * @param lifecycleOwner 当前LifecycleOwner实例
+     * @param vb             当前ViewBinding实例，尚未创建时传null
      */
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    
-    /**
-     * 读锁
-     */
-    private final ReentrantReadWriteLock.ReadLock readLock = lock.readLock();
-    
-    /**
-     * 写锁
-     */
-    private final ReentrantReadWriteLock.WriteLock writeLock = lock.writeLock();
+    public void setScope(@Nullable Activity activity, @Nullable Fragment fragment,
+                         @Nullable LifecycleOwner lifecycleOwner, @Nullable VB vb) {
+        Scope<VB> old;
+        Scope<VB> scope;
+        do {
+            old = scopeRef.get();
+            scope = new Scope<>(ref(old.activityRef, activity), ref(old.fragmentRef, fragment),
+                    ref(old.lifecycleOwnerRef, lifecycleOwner), ref(old.viewBindingRef, vb));
+        } while (!scopeRef.compareAndSet(old, scope));
+    }
 
     /**
      * 获取当前Activity实例
@@ -80,33 +102,24 @@ public class VmObjManager<VB extends ViewBinding> {
      * @return 当前Activity实例，如果不存在或已被销毁则返回null
      */
     public Activity getCurrentActivity() {
-        readLock.lock();
-        try {
-            return currentActivityWeakRef != null ? currentActivityWeakRef.get() : null;
-        } finally {
-            readLock.unlock();
-        }
+        return get(scopeRef.get().activityRef);
     }
 
     /**
      * 设置当前Activity实例
      * <p>
      * 将当前Activity实例包装为WeakReference保存，避免内存泄漏。
-     * 如果已存在Activity引用则先清除。
      * </p>
      *
      * @param activity 需要设置为当前的Activity实例
      */
     public void setCurrentActivity(Activity activity) {
-        writeLock.lock();
-        try {
-            if (currentActivityWeakRef != null) {
-                currentActivityWeakRef.clear();
-            }
-            currentActivityWeakRef = activity != null ? new WeakReference<>(activity) : null;
-        } finally {
-            writeLock.unlock();
-        }
+        Scope<VB> old;
+        Scope<VB> scope;
+        do {
+            old = scopeRef.get();
+            scope = new Scope<>(ref(old.activityRef, activity), old.fragmentRef, old.lifecycleOwnerRef, old.viewBindingRef);
+        } while (!scopeRef.compareAndSet(old, scope));
     }
 
     /**
@@ -118,33 +131,24 @@ public class VmObjManager<VB extends ViewBinding> {
      * @return 当前Fragment实例，如果不存在或已被销毁则返回null
      */
     public Fragment getCurrentFragment() {
-        readLock.lock();
-        try {
-            return currentFragmentWeakRef != null ? currentFragmentWeakRef.get() : null;
-        } finally {
-            readLock.unlock();
-        }
+        return get(scopeRef.get().fragmentRef);
     }
 
     /**
      * 设置当前Fragment实例
      * <p>
      * 将当前Fragment实例包装为WeakReference保存，避免内存泄漏。
-     * 如果已存在Fragment引用则先清除。
      * </p>
      *
      * @param fragment 需要设置为当前的Fragment实例
      */
     public void setCurrentFragment(Fragment fragment) {
-        writeLock.lock();
-        try {
-            if (currentFragmentWeakRef != null) {
-                currentFragmentWeakRef.clear();
-            }
-            currentFragmentWeakRef = fragment != null ? new WeakReference<>(fragment) : null;
-        } finally {
-            writeLock.unlock();
-        }
+        Scope<VB> old;
+        Scope<VB> scope;
+        do {
+            old = scopeRef.get();
+            scope = new Scope<>(old.activityRef, ref(old.fragmentRef, fragment), old.lifecycleOwnerRef, old.viewBindingRef);
+        } while (!scopeRef.compareAndSet(old, scope));
     }
 
     /**
@@ -156,34 +160,24 @@ public class VmObjManager<VB extends ViewBinding> {
      * @return 当前LifecycleOwner实例，如果不存在或已被销毁则返回null
      */
     public LifecycleOwner getCurrentLifecycleOwner() {
-        readLock.lock();
-        try {
-            return currentLifecycleOwnerWeakRef != null ? currentLifecycleOwnerWeakRef.get() : null;
-        } finally {
-            readLock.unlock();
-        }
+        return get(scopeRef.get().lifecycleOwnerRef);
     }
 
     /**
      * 设置当前LifecycleOwner实例
      * <p>
      * 将当前LifecycleOwner实例包装为WeakReference保存，避免内存泄漏。
-     * 如果已存在LifecycleOwner引用则先清除。
      * </p>
      *
      * @param lifecycleOwner 需要设置为当前的LifecycleOwner实例
      */
     public void setCurrentLifecycleOwner(LifecycleOwner lifecycleOwner) {
-        writeLock.lock();
-        try {
-            if (currentLifecycleOwnerWeakRef != null) {
-                currentLifecycleOwnerWeakRef.clear();
-            }
-            currentLifecycleOwnerWeakRef = lifecycleOwner != null ?
-                    new WeakReference<>(lifecycleOwner) : null;
-        } finally {
-            writeLock.unlock();
-        }
+        Scope<VB> old;
+        Scope<VB> scope;
+        do {
+            old = scopeRef.get();
+            scope = new Scope<>(old.activityRef, old.fragmentRef, ref(old.lifecycleOwnerRef, lifecycleOwner), old.viewBindingRef);
+        } while (!scopeRef.compareAndSet(old, scope));
     }
 
     /**
@@ -195,33 +189,54 @@ public class VmObjManager<VB extends ViewBinding> {
      * @return 当前ViewBinding实例，如果不存在或已被销毁则返回null
      */
     public VB getCurrentViewBinding() {
-        readLock.lock();
-        try {
-            return currentViewBindingWeakRef != null ? currentViewBindingWeakRef.get() : null;
-        } finally {
-            readLock.unlock();
-        }
+        return get(scopeRef.get().viewBindingRef);
     }
 
     /**
      * 设置当前ViewBinding实例
      * <p>
      * 将当前ViewBinding实例包装为WeakReference保存，避免内存泄漏。
-     * 如果已存在ViewBinding引用则先清除。
      * </p>
      *
      * @param vb 需要设置为当前的ViewBinding实例
      */
     public void setCurrentViewBinding(VB vb) {
-        writeLock.lock();
-        try {
-            if (currentViewBindingWeakRef != null) {
-                currentViewBindingWeakRef.clear();
-            }
-            currentViewBindingWeakRef = vb != null ? new WeakReference<>(vb) : null;
-        } finally {
-            writeLock.unlock();
-        }
+        Scope<VB> old;
+        Scope<VB> scope;
+        do {
+            old = scopeRef.get();
+            scope = new Scope<>(old.activityRef, old.fragmentRef, old.lifecycleOwnerRef, ref(old.viewBindingRef, vb));
+        } while (!scopeRef.compareAndSet(old, scope));
     }
 
+    /**
+     * 读取弱引用
+     *
+     * @param <T> 资源类型
+     * @param ref 弱引用
+     * @return 资源实例，不存在或已被回收时返回null
+     */
+    @Nullable
+    private static <T> T get(@Nullable WeakReference<T> ref) {
+        return ref != null ? ref.get() : null;
+    }
+
+    /**
+     * 生成弱引用
+     * <p>
+     * 资源未变化时沿用原有弱引用，不重复创建。
+     * </p>
+     *
+     * @param <T> 资源类型
+     * @param old 原有弱引用
+     * @param obj 资源实例
+     * @return 弱引用，资源为null时返回null
+     */
+    @Nullable
+    private static <T> WeakReference<T> ref(@Nullable WeakReference<T> old, @Nullable T obj) {
+        if (obj == null) {
+            return null;
+        }
+        return old != null && old.get() == obj ? old : new WeakReference<>(obj);
+    }
 }
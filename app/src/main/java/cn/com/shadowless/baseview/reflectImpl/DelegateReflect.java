@@ -1,28 +1,130 @@
 package cn.com.shadowless.baseview.reflectImpl;
 
+import androidx.annotation.NonNull;
+import androidx.lifecycle.LiveData;
+
+import java.lang.ref.Reference;
 import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 
 import cn.com.shadowless.baseview.event.UpdateReflectEvent;
 
 /**
  * 委托反射实现类
  * <p>
- * 用于处理通过委托方式包装的对象，通过反射调用getValue方法获取实际对象。
- * 实现了UpdateReflectEvent接口，提供从委托对象中提取实际对象的功能。
- * 使用单例模式确保全局只有一个实例。
+ * 用于处理通过委托方式包装的对象，获取其包装的实际对象。
+ * 优先使用按类型注册的委托适配器直接取值，默认提供LiveData、AtomicReference、Reference（WeakReference、SoftReference），
+ * 以及运行时存在时的kotlin.Lazy、javax.inject.Provider、dagger.Lazy适配器；
+ * 未匹配适配器时查找一次getValue方法并缓存，不存在该方法的类同样缓存结果，直接返回原始值。
+ * 实现了UpdateReflectEvent接口，使用单例模式确保全局只有一个实例。
  * </p>
  *
  * @author sHadowLess
  */
 public class DelegateReflect implements UpdateReflectEvent {
 
+    /**
+     * 不存在委托的占位，直接返回原始值
+     */
+    private static final DelegateAdapter<Object> NONE = delegate -> delegate;
+
+    /**
+     * 已注册的委托适配器，后注册的优先匹配
+     */
+    private final CopyOnWriteArrayList<AdapterEntry> adapterList = new CopyOnWriteArrayList<>();
+
+    /**
+     * 类与委托适配器的映射
+     */
+    private final ConcurrentHashMap<Class<?>, DelegateAdapter<Object>> adapterMap = new ConcurrentHashMap<>();
+
+    /**
+     * 委托适配器
+     *
+     * @param <T> 委托类型
+     */
+    public interface DelegateAdapter<T> {
+        /**
+         * 获取委托包装的实际对象
+         *
+         * @param delegate 委托对象
+         * @return 实际对象
+         */
+        Object getValue(@NonNull T delegate);
+    }
+
+    /**
+     * 已注册的委托适配器
+     */
+    private static final class AdapterEntry {
+        /**
+         * 委托类型
+         */
+        private final Class<?> type;
+        /**
+         * 委托适配器
+         */
+        private final DelegateAdapter<Object> adapter;
+
+        /**
+         * Instantiates a new Adapter entry.
+         *
+         * @param type    the type
+         * @param adapter the adapter
+         */
+        private AdapterEntry(Class<?> type, DelegateAdapter<Object> adapter) {
+            this.type = type;
+            this.adapter = adapter;
+        }
+    }
+
+    /**
+     * 方法委托适配器
+     * <p>
+     * 方法只查找一次，调用失败时返回原始值。
+     * </p>
+     */
+    private static final class MethodAdapter implements DelegateAdapter<Object> {
+        /**
+         * 取值方法
+         */
+        private final Method method;
+
+        /**
+         * Instantiates a new Method adapter.
+         *
+         * @param method the method
+         */
+        private MethodAdapter(Method method) {
+            this.method = method;
+        }
+
+        @Override
+        public Object getValue(@NonNull Object delegate) {
+            try {
+                return method.invoke(delegate);
+            } catch (Exception e) {
+                return delegate;
+            }
+        }
+    }
+
     /**
      * 私有构造函数
      * <p>
      * 防止外部直接实例化，确保通过getInstance方法获取单例实例。
+     * 同时注册默认的委托适配器。
      * </p>
      */
     private DelegateReflect() {
+        registerOptional("javax.inject.Provider", "get");
+        registerOptional("dagger.Lazy", "get");
+        registerOptional("kotlin.Lazy", "getValue");
+        register(Reference.class, Reference::get);
+        register(AtomicReference.class, AtomicReference::get);
+        register(LiveData.class, LiveData::getValue);
     }
 
     /**
@@ -47,12 +149,28 @@ public class DelegateReflect implements UpdateReflectEvent {
         return DelegateReflectImpl.instance;
     }
 
+    /**
+     * 注册委托适配器
+     * <p>
+     * 匹配该类型及其子类，后注册的优先匹配，注册后清空已缓存的匹配结果。
+     * </p>
+     *
+     * @param <T>     委托类型
+     * @param type    委托类型
+     * @param adapter 委托适配器
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void register(@NonNull Class<T> type, @NonNull DelegateAdapter<? super T> adapter) {
+        adapterList.add(0, new AdapterEntry(type, (DelegateAdapter<Object>) adapter));
+        adapterMap.clear();
+    }
+
     /**
      * 获取实际对象
      * <p>
      * 从给定的值中提取或获取实际的对象引用。
-     * 如果值对象包含getValue方法，则通过反射调用该方法获取实际对象；
-     * 否则直接返回原始值。
+     * 按值的类型取用缓存的委托适配器，首次遇到该类型时依次匹配已注册的适配器和getValue方法；
+     * 均不存在时直接返回原始值。
      * </p>
      *
      * @param value 可能是包装对象的原始值
@@ -63,38 +181,76 @@ public class DelegateReflect implements UpdateReflectEvent {
         if (value == null) {
             return null;
         }
-        try {
-            Method getValueMethod = findMethod(value.getClass(), "getValue");
-            if (getValueMethod != null) {
-                getValueMethod.setAccessible(true);
-                return getValueMethod.invoke(value);
+        Class<?> cls = value.getClass();
+        DelegateAdapter<Object> adapter = adapterMap.get(cls);
+        if (adapter == null) {
+            adapter = resolveAdapter(cls);
+            adapterMap.put(cls, adapter);
+        }
+        return adapter.getValue(value);
+    }
+
+    /**
+     * 解析类对应的委托适配器
+     *
+     * @param cls 委托对象的类
+     * @return 委托适配器，不存在委托时返回NONE
+     */
+    @NonNull
+    private DelegateAdapter<Object> resolveAdapter(Class<?> cls) {
+        for (AdapterEntry entry : adapterList) {
+            if (entry.type.isAssignableFrom(cls)) {
+                return entry.adapter;
             }
-            return value;
-        } catch (Exception e) {
-            return value;
         }
+        Method getValueMethod = findMethod(cls, "getValue");
+        if (getValueMethod == null) {
+            return NONE;
+        }
+        try {
+            getValueMethod.setAccessible(true);
+        } catch (SecurityException e) {
+            return NONE;
+        }
+        return new MethodAdapter(getValueMethod);
     }
 
     /**
-     * 递归查找方法
+     * 注册运行时可能不存在的委托类型
      * <p>
-     * 在指定类及其父类中查找指定名称和参数类型的方法。
+     * 类存在时查找一次取值方法后注册，不存在时忽略。
+     * </p>
+     *
+     * @param className  委托类型全类名
+     * @param methodName 无参取值方法名
+     */
+    private void registerOptional(String className, String methodName) {
+        try {
+            Class<?> type = Class.forName(className, false, DelegateReflect.class.getClassLoader());
+            register(type, new MethodAdapter(type.getMethod(methodName)));
+        } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+            //未引入对应依赖
+        }
+    }
+
+    /**
+     * 逐级查找方法
+     * <p>
+     * 在指定类及其父类中查找指定名称的无参方法，不包括Object。
      * </p>
      *
      * @param clazz      要查找的类
      * @param methodName 方法名称
-     * @param paramTypes 方法参数类型
      * @return 找到的方法对象，如果未找到则返回null
      */
-    private Method findMethod(Class<?> clazz, String methodName, Class<?>... paramTypes) {
-        try {
-            return clazz.getDeclaredMethod(methodName, paramTypes);
-        } catch (NoSuchMethodException e) {
-            Class<?> superClass = clazz.getSuperclass();
-            if (superClass != null && !Object.class.equals(superClass)) {
-                return findMethod(superClass, methodName, paramTypes);
+    private Method findMethod(Class<?> clazz, String methodName) {
+        for (Class<?> cls = clazz; cls != null && !Object.class.equals(cls); cls = cls.getSuperclass()) {
+            for (Method method : cls.getDeclaredMethods()) {
+                if (method.getName().equals(methodName) && method.getParameterTypes().length == 0) {
+                    return method;
+                }
             }
-            return null;
         }
+        return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,259 @@
+package cn.com.shadowless.baseview.utils;
+
+import android.app.Activity;
+import android.content.ComponentName;
+import android.content.Context;
+import android.content.MutableContextWrapper;
+import android.content.pm.PackageManager;
+import android.content.res.Configuration;
+import android.view.ContextThemeWrapper;
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AppCompatDelegate;
+import androidx.viewbinding.ViewBinding;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Activity视图预加载器
+ * <p>
+ * 在startActivity之前，使用与目标Activity主题一致的ContextThemeWrapper在后台线程创建其ViewBinding，
+ * 与启动动画并行。目标Activity创建时直接取用，视图的Context随后切换到真实的Activity。
+ * 主题、配置或ViewBinding类不一致，尚未加载完成或已过期时放弃预加载结果，由Activity正常加载。
+ * 预加载的视图Context为包装了Activity的ContextThemeWrapper，依赖view.getContext()为Activity的布局不宜使用。
+ * </p>
+ *
+ * @author sHadowLess
+ */
+public enum ActivityBindingPrefetcher {
+
+    /**
+     * Activity视图预加载器单例实例
+     */
+    INSTANCE;
+
+    /**
+     * 默认过期时间
+     */
+    private static final long DEFAULT_EXPIRE_MILLIS = 5000;
+
+    /**
+     * Activity类与预加载结果的映射
+     */
+    private final Map<Class<?>, Entry> entryMap = new HashMap<>();
+
+    /**
+     * 过期时间，单位毫秒
+     */
+    private long expireMillis = DEFAULT_EXPIRE_MILLIS;
+
+    /**
+     * 预加载结果
+     */
+    private static final class Entry {
+        /**
+         * ViewBinding类
+         */
+        private final Class<?> vbClass;
+        /**
+         * 使用的主题
+         */
+        private final int themeResId;
+        /**
+         * 可替换的基础Context，取用时替换为Activity
+         */
+        private final MutableContextWrapper baseContext;
+        /**
+         * 预加载时的配置
+         */
+        private final Configuration configuration;
+        /**
+         * 创建时间，单位纳秒
+         */
+        private final long createNanos = System.nanoTime();
+        /**
+         * 加载完成的ViewBinding
+         */
+        private ViewBinding binding;
+
+        /**
+         * Instantiates a new Entry.
+         *
+         * @param vbClass       the vb class
+         * @param themeResId    the theme res id
+         * @param baseContext   the base context
+         * @param configuration the configuration
+         */
+        private Entry(Class<?> vbClass, int themeResId, MutableContextWrapper baseContext, Configuration configuration) {
+            this.vbClass = vbClass;
+            this.themeResId = themeResId;
+            this.baseContext = baseContext;
+            this.configuration = configuration;
+        }
+    }
+
+    /**
+     * 设置过期时间
+     *
+     * @param expireMillis 过期时间，单位毫秒
+     */
+    @MainThread
+    public void setExpireMillis(long expireMillis) {
+        this.expireMillis = Math.max(0, expireMillis);
+    }
+
+    /**
+     * 预加载Activity视图
+     * <p>
+     * 在startActivity之前调用，同一Activity类只保留最近一次预加载。
+     * </p>
+     *
+     * @param <VB>          ViewBinding类型参数
+     * @param context       发起跳转的Context
+     * @param activityClass 目标Activity类
+     * @param vbClass       目标Activity的ViewBinding类
+     * @param themeResId    目标Activity的initTheme返回值，-1时使用清单中声明的主题
+     */
+    @MainThread
+    public <VB extends ViewBinding> void prefetch(@NonNull Context context, @NonNull Class<? extends Activity> activityClass,
+                                                  @NonNull Class<VB> vbClass, int themeResId) {
+        removeExpired();
+        Context appContext = context.getApplicationContext();
+        int theme = resolveTheme(appContext, activityClass, themeResId);
+        MutableContextWrapper baseContext = new MutableContextWrapper(appContext);
+        ContextThemeWrapper themeContext = new ContextThemeWrapper(baseContext, theme);
+        //尚无Activity，借助独立的AppCompatDelegate创建AppCompat控件
+        AppCompatDelegate delegate = AppCompatDelegate.create(themeContext, null, null);
+        LayoutInflater.Factory2 factory = delegate instanceof LayoutInflater.Factory2 ? (LayoutInflater.Factory2) delegate : null;
+        Entry entry = new Entry(vbClass, theme, baseContext, new Configuration(appContext.getResources().getConfiguration()));
+        entryMap.put(activityClass, entry);
+        AsyncViewBindingInflate<VB> asyncViewBindingInflate = new AsyncViewBindingInflate<>(themeContext, factory);
+        asyncViewBindingInflate.inflate(vbClass, null, AsyncViewBindingInflate.Priority.VISIBLE, null, 0,
+                new AsyncViewBindingInflate.OnInflateFinishedListener<VB>() {
+                    @Override
+                    public void onInflateFinished(@NonNull VB binding, @Nullable ViewGroup parent) {
+                        if (entryMap.get(activityClass) == entry) {
+                            entry.binding = binding;
+                        }
+                    }
+
+                    @Override
+                    public void onInflateError(Exception e) {
+                        if (entryMap.get(activityClass) == entry) {
+                            entryMap.remove(activityClass);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * 是否有Activity类的预加载结果
+     *
+     * @param activity 目标Activity
+     * @return the boolean
+     */
+    @MainThread
+    public boolean isPrefetched(@NonNull Activity activity) {
+        return entryMap.containsKey(activity.getClass());
+    }
+
+    /**
+     * 取用预加载的视图
+     * <p>
+     * 由Activity基类在onCreate中调用，无论是否可用都会移除该Activity类的预加载结果。
+     * </p>
+     *
+     * @param <VB>       ViewBinding类型参数
+     * @param activity   目标Activity
+     * @param vbClass    目标Activity的ViewBinding类
+     * @param themeResId 目标Activity的initTheme返回值
+     * @return 可用时返回预加载的ViewBinding，否则返回null
+     */
+    @MainThread
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <VB extends ViewBinding> VB adopt(@NonNull Activity activity, @NonNull Class<VB> vbClass, int themeResId) {
+        if (entryMap.isEmpty()) {
+            return null;
+        }
+        Entry entry = entryMap.remove(activity.getClass());
+        if (entry == null || entry.binding == null || !isCompatible(entry, activity, vbClass, themeResId)) {
+            return null;
+        }
+        entry.baseContext.setBaseContext(activity);
+        IdleInflateScheduler.INSTANCE.onBindingShown(activity, vbClass);
+        return (VB) entry.binding;
+    }
+
+    /**
+     * 清空预加载结果
+     */
+    @MainThread
+    public void clear() {
+        entryMap.clear();
+    }
+
+    /**
+     * 预加载结果是否可用于目标Activity
+     *
+     * @param entry      预加载结果
+     * @param activity   目标Activity
+     * @param vbClass    目标Activity的ViewBinding类
+     * @param themeResId 目标Activity的initTheme返回值
+     * @return the boolean
+     */
+    private boolean isCompatible(Entry entry, Activity activity, Class<?> vbClass, int themeResId) {
+        return entry.vbClass == vbClass
+                && !isExpired(entry)
+                && entry.themeResId == resolveTheme(activity, activity.getClass(), themeResId)
+                && entry.configuration.diff(activity.getResources().getConfiguration()) == 0;
+    }
+
+    /**
+     * 是否已过期
+     *
+     * @param entry the entry
+     * @return the boolean
+     */
+    private boolean isExpired(Entry entry) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entry.createNanos) > expireMillis;
+    }
+
+    /**
+     * 移除过期的预加载结果
+     */
+    private void removeExpired() {
+        Iterator<Entry> iterator = entryMap.values().iterator();
+        while (iterator.hasNext()) {
+            if (isExpired(iterator.next())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * 获取Activity实际使用的主题
+     *
+     * @param context       the context
+     * @param activityClass the activity class
+     * @param themeResId    initTheme返回值
+     * @return 主题资源，未声明时返回0
+     */
+    private int resolveTheme(Context context, Class<?> activityClass, int themeResId) {
+        if (-1 != themeResId) {
+            return themeResId;
+        }
+        try {
+            return context.getPackageManager().getActivityInfo(new ComponentName(context, activityClass), 0).getThemeResource();
+        } catch (PackageManager.NameNotFoundException e) {
+            return 0;
+        }
+    }
+}
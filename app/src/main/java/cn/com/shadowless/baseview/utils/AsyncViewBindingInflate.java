@@ -1,6 +1,7 @@
 package cn.com.shadowless.baseview.utils;
 
 import android.content.Context;
+import android.content.ContextWrapper;
 import android.os.Handler;
 import android.os.Looper;
 import android.os.Message;
@@ -16,22 +17,36 @@ import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.app.AppCompatDelegate;
 import androidx.core.util.Pools;
 import androidx.core.view.LayoutInflaterCompat;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleEventObserver;
+import androidx.lifecycle.LifecycleOwner;
 import androidx.viewbinding.ViewBinding;
 
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import cn.com.shadowless.baseview.manager.InflateMetricsManager;
+import cn.com.shadowless.baseview.manager.ViewBindingFactoryManager;
 
 /**
  * 异步布局填充器
  * <p>
  * 提供异步加载ViewBinding布局的功能，避免在主线程进行耗时的布局解析操作。
  * 使用线程池和Handler机制实现异步加载和主线程回调。
+ * 请求按优先级调度，可与调用方生命周期绑定，销毁后排队中的请求直接移除，执行中的请求不再回调。
  * </p>
  *
  * @param <VB> ViewBinding类型参数
@@ -39,6 +54,59 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class AsyncViewBindingInflate<VB extends ViewBinding> {
 
+    /**
+     * 按Context共享的异步布局填充器
+     * <p>
+     * 填充器内部的LayoutInflater会强引用Context，弱引用键无法自动回收，
+     * 因此只缓存具备生命周期的Context，并在其销毁时移除。
+     * </p>
+     */
+    private static final Map<Context, AsyncViewBindingInflate<?>> S_INFLATE_MAP = new HashMap<>();
+
+    /**
+     * 单个请求完成消息
+     */
+    private static final int MSG_INFLATE = 0;
+
+    /**
+     * 批量请求完成消息
+     */
+    private static final int MSG_BATCH = 1;
+
+    /**
+     * 单个请求超时消息
+     */
+    private static final int MSG_TIMEOUT = 2;
+
+    /**
+     * 默认超时时间，超时后转为主线程创建
+     */
+    private static final long DEFAULT_DEADLINE_MILLIS = 1000;
+
+    /**
+     * 可见页面请求的默认超时时间
+     */
+    private static volatile long sDefaultDeadlineMillis = DEFAULT_DEADLINE_MILLIS;
+
+    /**
+     * 后台连续创建失败多少次后改为主线程创建
+     */
+    private static final int MAX_BACKGROUND_FAILURES = 3;
+
+    /**
+     * 只能在主线程创建的ViewBinding类
+     * <p>
+     * 如布局中包含构造时创建Handler的控件，因线程限制失败后立即加入；其他异常连续失败达到上限后加入。
+     * 后续请求直接在主线程创建，不再做注定失败的尝试。
+     * </p>
+     */
+    private static final Set<Class<?>> S_MAIN_THREAD_CLASS_SET = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /**
+     * ViewBinding类在后台连续创建失败的次数，后台创建成功后清除
+     */
+    private static final ConcurrentHashMap<Class<?>, AtomicInteger> S_FAILURE_MAP = new ConcurrentHashMap<>();
+
     /**
      * 请求对象池
      * <p>
@@ -49,6 +117,10 @@ public class AsyncViewBindingInflate<VB extends ViewBinding> {
 
     /**
      * 布局填充器
+     * <p>
+     * 只在主线程使用，后台任务通过 {@link #newInflater()} 使用各自的副本，
+     * 避免LayoutInflater内部的构造参数锁使后台创建互相等待。
+     * </p>
      */
     LayoutInflater mInflater;
     /**
@@ -69,11 +141,59 @@ public class AsyncViewBindingInflate<VB extends ViewBinding> {
      * @param context 上下文
      */
     public AsyncViewBindingInflate(@NonNull Context context) {
-        mInflater = new BasicInflater(context);
+        this(context, null);
+    }
+
+    /**
+     * 构造函数
+     * <p>
+     * 使用指定的Factory2创建控件，用于Context尚不是AppCompatActivity时兼容AppCompat控件。
+     * </p>
+     *
+     * @param context 上下文
+     * @param factory 控件创建工厂
+     */
+    AsyncViewBindingInflate(@NonNull Context context, @Nullable LayoutInflater.Factory2 factory) {
+        mInflater = new BasicInflater(context, factory);
         mHandler = new Handler(Looper.getMainLooper(), mHandlerCallback);
         mDispatcher = new Dispatcher<>();
     }
 
+    /**
+     * 获取Context共享的异步布局填充器
+     * <p>
+     * 同一Activity下的页面共用已配置好的Factory2、Handler和请求对象池，
+     * 每个后台请求使用复制出的独立LayoutInflater，互不阻塞，Activity销毁时释放。
+     * Context不具备生命周期时每次新建。
+     * </p>
+     *
+     * @param <VB>    ViewBinding类型参数
+     * @param context 上下文，Fragment请传入依附的Activity
+     * @return 异步布局填充器
+     */
+    @UiThread
+    @NonNull
+    public static <VB extends ViewBinding> AsyncViewBindingInflate<VB> obtain(@NonNull Context context) {
+        if (!(context instanceof LifecycleOwner)) {
+            return new AsyncViewBindingInflate<>(context);
+        }
+        Lifecycle lifecycle = ((LifecycleOwner) context).getLifecycle();
+        if (lifecycle.getCurrentState() == Lifecycle.State.DESTROYED) {
+            return new AsyncViewBindingInflate<>(context);
+        }
+        AsyncViewBindingInflate<?> inflate = S_INFLATE_MAP.get(context);
+        if (inflate == null) {
+            inflate = new AsyncViewBindingInflate<>(context);
+            S_INFLATE_MAP.put(context, inflate);
+            lifecycle.addObserver((LifecycleEventObserver) (source, event) -> {
+                if (event == Lifecycle.Event.ON_DESTROY) {
+                    S_INFLATE_MAP.remove(context);
+                }
+            });
+        }
+        return (AsyncViewBindingInflate<VB>) inflate;
+    }
+
     /**
      * 异步加载布局
      * <p>
@@ -86,31 +206,326 @@ public class AsyncViewBindingInflate<VB extends ViewBinding> {
      */
     @UiThread
     public void inflate(Class<VB> vbClass, @Nullable ViewGroup parent, @NonNull OnInflateFinishedListener<VB> callback) {
+        inflate(vbClass, parent, Priority.VISIBLE, null, callback);
+    }
+
+    /**
+     * 设置可见页面请求的默认超时时间
+     * <p>
+     * 仅作用于 {@link Priority#VISIBLE} 请求，小于等于0时不限制。
+     * </p>
+     *
+     * @param deadlineMillis 超时时间，单位毫秒
+     */
+    public static void setDefaultDeadline(long deadlineMillis) {
+        sDefaultDeadlineMillis = deadlineMillis;
+    }
+
+    /**
+     * 异步加载布局
+     * <p>
+     * 按优先级放入调度器，传入生命周期时，销毁后自动取消。
+     * 可见页面请求使用默认超时时间，其余优先级不限制。
+     * </p>
+     *
+     * @param vbClass  ViewBinding类
+     * @param parent   父容器
+     * @param priority 优先级
+     * @param owner    取消请求的生命周期，Fragment请传入getViewLifecycleOwner()
+     * @param callback 加载完成后的回调
+     */
+    @UiThread
+    public void inflate(Class<VB> vbClass, @Nullable ViewGroup parent, @NonNull Priority priority,
+                        @Nullable LifecycleOwner owner, @NonNull OnInflateFinishedListener<VB> callback) {
+        inflate(vbClass, parent, priority, owner, priority == Priority.VISIBLE ? sDefaultDeadlineMillis : 0, callback);
+    }
+
+    /**
+     * 异步加载布局
+     * <p>
+     * 后台线程在超时时间内未完成时，改为在主线程同步创建并回调，后台的迟到结果直接丢弃。
+     * 因线程限制或多次在后台创建失败的ViewBinding类直接在主线程创建。
+     * </p>
+     *
+     * @param vbClass        ViewBinding类
+     * @param parent         父容器
+     * @param priority       优先级
+     * @param owner          取消请求的生命周期，Fragment请传入getViewLifecycleOwner()
+     * @param deadlineMillis 超时时间，单位毫秒，小于等于0时不限制
+     * @param callback       加载完成后的回调
+     */
+    @UiThread
+    public void inflate(Class<VB> vbClass, @Nullable ViewGroup parent, @NonNull Priority priority,
+                        @Nullable LifecycleOwner owner, long deadlineMillis, @NonNull OnInflateFinishedListener<VB> callback) {
+        if (owner != null && owner.getLifecycle().getCurrentState() == Lifecycle.State.DESTROYED) {
+            return;
+        }
         InflateRequest<VB> request = obtainRequest();
         request.inflater = this;
         request.vbClass = vbClass;
         request.parent = parent;
         request.callback = callback;
+        request.cancelled = false;
+        request.delivered = false;
+        request.runnable = new InflateRunnable<>(request, priority);
+        if (owner != null) {
+            request.lifecycle = owner.getLifecycle();
+            request.observer = (source, event) -> {
+                if (event == Lifecycle.Event.ON_DESTROY) {
+                    cancelRequest(request);
+                }
+            };
+            request.lifecycle.addObserver(request.observer);
+        }
+        if (S_MAIN_THREAD_CLASS_SET.contains(vbClass)) {
+            Message.obtain(mHandler, MSG_INFLATE, request).sendToTarget();
+            return;
+        }
+        if (deadlineMillis > 0) {
+            mHandler.sendMessageDelayed(Message.obtain(mHandler, MSG_TIMEOUT, request), deadlineMillis);
+        }
         mDispatcher.enqueue(request);
     }
 
+    /**
+     * 提升排队中请求的优先级
+     * <p>
+     * 如屏幕外预加载的页面变为当前页时调用，只处理尚未开始执行的请求，
+     * 提升为VISIBLE时同时启用默认超时时间。
+     * </p>
+     *
+     * @param callback 发起请求时传入的回调
+     * @param priority 新的优先级，不高于原优先级时不处理
+     * @return 是否提升成功
+     */
+    @UiThread
+    public boolean promote(@NonNull OnInflateFinishedListener<VB> callback, @NonNull Priority priority) {
+        for (Runnable runnable : Dispatcher.S_POOL_WORK_QUEUE) {
+            if (!(runnable instanceof InflateRunnable)) {
+                continue;
+            }
+            InflateRunnable<?> inflateRunnable = (InflateRunnable<?>) runnable;
+            if (inflateRunnable.request.inflater != this || inflateRunnable.request.callback != callback) {
+                continue;
+            }
+            if (priority.compareTo(inflateRunnable.getPriority()) >= 0
+                    || !Dispatcher.THREAD_POOL_EXECUTOR.remove(inflateRunnable)) {
+                return false;
+            }
+            InflateRequest<VB> request = (InflateRequest<VB>) inflateRunnable.request;
+            request.runnable = new InflateRunnable<>(request, priority);
+            if (priority == Priority.VISIBLE && sDefaultDeadlineMillis > 0) {
+                mHandler.sendMessageDelayed(Message.obtain(mHandler, MSG_TIMEOUT, request), sDefaultDeadlineMillis);
+            }
+            mDispatcher.enqueue(request);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 批量异步加载布局
+     * <p>
+     * 各项分散到线程池并行创建，全部完成后只发送一次主线程消息，
+     * 按传入顺序依次回调各项的监听，最后回调批量完成监听，便于宿主在同一帧内添加全部视图。
+     * 后台创建失败的项在主线程重新创建，仍失败时回调该项的onInflateError。
+     * </p>
+     *
+     * @param items    批量加载项
+     * @param priority 优先级
+     * @param owner    取消请求的生命周期，Fragment请传入getViewLifecycleOwner()
+     * @param listener 批量完成后的回调
+     */
+    @UiThread
+    public void inflateBatch(@NonNull List<BatchItem<?>> items, @NonNull Priority priority,
+                             @Nullable LifecycleOwner owner, @Nullable OnBatchInflateFinishedListener listener) {
+        if (owner != null && owner.getLifecycle().getCurrentState() == Lifecycle.State.DESTROYED) {
+            return;
+        }
+        InflateBatch batch = new InflateBatch(this, new ArrayList<>(items), listener);
+        if (batch.items.isEmpty()) {
+            Message.obtain(mHandler, MSG_BATCH, batch).sendToTarget();
+            return;
+        }
+        for (BatchItem<?> item : batch.items) {
+            item.binding = null;
+            batch.runnables.add(new BatchRunnable(batch, item, priority));
+        }
+        if (owner != null) {
+            batch.lifecycle = owner.getLifecycle();
+            batch.observer = (source, event) -> {
+                if (event == Lifecycle.Event.ON_DESTROY) {
+                    cancelBatch(batch);
+                }
+            };
+            batch.lifecycle.addObserver(batch.observer);
+        }
+        for (BatchRunnable runnable : batch.runnables) {
+            Dispatcher.THREAD_POOL_EXECUTOR.execute(runnable);
+        }
+    }
+
     /**
      * 处理消息的回调
      */
     private Handler.Callback mHandlerCallback = msg -> {
+        if (msg.what == MSG_BATCH) {
+            deliverBatch((InflateBatch) msg.obj);
+            return true;
+        }
         InflateRequest<VB> request = (InflateRequest<VB>) msg.obj;
-        if (request.binding == null) {
+        if (msg.what == MSG_TIMEOUT) {
+            onRequestTimeout(request);
+            return true;
+        }
+        mHandler.removeMessages(MSG_TIMEOUT, request);
+        if (request.cancelled || request.delivered) {
+            releaseRequest(request);
+            return true;
+        }
+        request.delivered = true;
+        VB binding = request.binding;
+        OnInflateFinishedListener<VB> callback = request.callback;
+        ViewGroup parent = request.parent;
+        if (binding != null) {
+            InflateMetricsManager.INSTANCE.record(request.vbClass, InflateMetricsManager.Metric.HANDOFF, System.nanoTime() - request.postNanos);
+        } else {
             try {
-                request.binding = inflate(request.vbClass, mInflater, request.parent, false);
+                binding = inflate(request.vbClass, mInflater, parent, false);
             } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
-                request.callback.onInflateError(e);
+                releaseRequest(request);
+                callback.onInflateError(e);
+                return true;
             }
         }
-        request.callback.onInflateFinished(request.binding, request.parent);
+        if (request.runnable.getPriority() != Priority.PREFETCH) {
+            IdleInflateScheduler.INSTANCE.onBindingShown(mInflater.getContext(), request.vbClass);
+        }
         releaseRequest(request);
+        callback.onInflateFinished(binding, parent);
         return true;
     };
 
+    /**
+     * 请求超时
+     * <p>
+     * 排队中的请求移出线程池后回收；执行中的请求先在主线程创建并回调，
+     * 由后台完成消息负责回收并丢弃其结果。
+     * </p>
+     *
+     * @param request 加载请求对象
+     */
+    @UiThread
+    private void onRequestTimeout(InflateRequest<VB> request) {
+        if (request.cancelled || request.delivered) {
+            return;
+        }
+        request.delivered = true;
+        boolean removed = Dispatcher.THREAD_POOL_EXECUTOR.remove(request.runnable);
+        OnInflateFinishedListener<VB> callback = request.callback;
+        ViewGroup parent = request.parent;
+        VB binding;
+        try {
+            //后台任务可能仍在执行，使用独立的LayoutInflater，不等待其构造参数锁
+            binding = inflate(request.vbClass, newInflater(), parent, false);
+        } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
+            if (removed) {
+                releaseRequest(request);
+            }
+            callback.onInflateError(e);
+            return;
+        }
+        if (removed) {
+            releaseRequest(request);
+        }
+        callback.onInflateFinished(binding, parent);
+    }
+
+    /**
+     * 取消请求
+     * <p>
+     * 排队中的请求直接从线程池移除并回收，执行中的请求完成后在主线程丢弃。
+     * </p>
+     *
+     * @param request 加载请求对象
+     */
+    @UiThread
+    private void cancelRequest(InflateRequest<VB> request) {
+        if (request.cancelled) {
+            return;
+        }
+        request.cancelled = true;
+        mHandler.removeMessages(MSG_TIMEOUT, request);
+        if (Dispatcher.THREAD_POOL_EXECUTOR.remove(request.runnable)) {
+            releaseRequest(request);
+        }
+    }
+
+    /**
+     * 主线程分发批量结果
+     *
+     * @param batch 批量请求
+     */
+    @UiThread
+    private void deliverBatch(InflateBatch batch) {
+        if (batch.lifecycle != null) {
+            batch.lifecycle.removeObserver(batch.observer);
+        }
+        if (batch.cancelled) {
+            return;
+        }
+        long handoff = System.nanoTime() - batch.postNanos;
+        for (BatchItem<?> item : batch.items) {
+            if (item.binding != null) {
+                InflateMetricsManager.INSTANCE.record(item.vbClass, InflateMetricsManager.Metric.HANDOFF, handoff);
+            }
+            item.deliver(mInflater);
+        }
+        if (batch.listener != null) {
+            batch.listener.onBatchInflateFinished(batch.items);
+        }
+    }
+
+    /**
+     * 取消批量请求
+     *
+     * @param batch 批量请求
+     */
+    @UiThread
+    private void cancelBatch(InflateBatch batch) {
+        if (batch.cancelled) {
+            return;
+        }
+        batch.cancelled = true;
+        batch.lifecycle.removeObserver(batch.observer);
+        for (BatchRunnable runnable : batch.runnables) {
+            if (Dispatcher.THREAD_POOL_EXECUTOR.remove(runnable)) {
+                batch.remaining.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 请求优先级
+     * <p>
+     * 数值越小越先执行，同优先级按提交顺序执行。
+     * </p>
+     */
+    public enum Priority {
+        /**
+         * 当前可见页面
+         */
+        VISIBLE,
+        /**
+         * 屏幕外页面，如ViewPager预加载页
+         */
+        OFFSCREEN,
+        /**
+         * 预加载
+         */
+        PREFETCH
+    }
+
     /**
      * 加载完成后的回调接口
      *
@@ -133,6 +548,174 @@ public class AsyncViewBindingInflate<VB extends ViewBinding> {
         void onInflateError(Exception e);
     }
 
+    /**
+     * 批量加载完成后的回调接口
+     */
+    public interface OnBatchInflateFinishedListener {
+        /**
+         * 全部加载完成后的回调方法
+         * <p>
+         * 在所有加载项的回调之后执行。
+         * </p>
+         *
+         * @param items 批量加载项，顺序与传入一致
+         */
+        void onBatchInflateFinished(@NonNull List<BatchItem<?>> items);
+    }
+
+    /**
+     * 批量加载项
+     *
+     * @param <T> ViewBinding类型参数
+     */
+    public static final class BatchItem<T extends ViewBinding> {
+        /**
+         * ViewBinding类
+         */
+        private final Class<T> vbClass;
+        /**
+         * 父容器
+         */
+        private final ViewGroup parent;
+        /**
+         * 该项加载完成后的回调
+         */
+        private final OnInflateFinishedListener<T> callback;
+        /**
+         * 加载完成的ViewBinding对象
+         */
+        private volatile T binding;
+
+        /**
+         * Instantiates a new Batch item.
+         *
+         * @param vbClass  ViewBinding类
+         * @param parent   父容器
+         * @param callback 该项加载完成后的回调
+         */
+        public BatchItem(@NonNull Class<T> vbClass, @Nullable ViewGroup parent, @Nullable OnInflateFinishedListener<T> callback) {
+            this.vbClass = vbClass;
+            this.parent = parent;
+            this.callback = callback;
+        }
+
+        /**
+         * 获取加载完成的ViewBinding
+         *
+         * @return ViewBinding，创建失败时返回null
+         */
+        @Nullable
+        public T getBinding() {
+            return binding;
+        }
+
+        /**
+         * 获取父容器
+         *
+         * @return the parent
+         */
+        @Nullable
+        public ViewGroup getParent() {
+            return parent;
+        }
+
+        /**
+         * 后台创建
+         *
+         * @param inflater 布局填充器
+         */
+        private void inflateInBackground(LayoutInflater inflater) {
+            if (S_MAIN_THREAD_CLASS_SET.contains(vbClass)) {
+                return;
+            }
+            try {
+                binding = inflate(vbClass, inflater, parent, false);
+                S_FAILURE_MAP.remove(vbClass);
+            } catch (Exception e) {
+                //后台加载失败时交由主线程重新加载并回调错误
+                binding = null;
+                onBackgroundFailed(vbClass, e);
+            }
+        }
+
+        /**
+         * 主线程回调，后台未创建成功时在主线程重新创建
+         *
+         * @param inflater 布局填充器
+         */
+        private void deliver(LayoutInflater inflater) {
+            if (binding == null) {
+                try {
+                    binding = inflate(vbClass, inflater, parent, false);
+                } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
+                    if (callback != null) {
+                        callback.onInflateError(e);
+                    }
+                    return;
+                }
+            }
+            if (callback != null) {
+                callback.onInflateFinished(binding, parent);
+            }
+        }
+    }
+
+    /**
+     * 批量请求
+     */
+    private static class InflateBatch {
+        /**
+         * 异步布局填充器
+         */
+        private final AsyncViewBindingInflate<?> inflater;
+        /**
+         * 批量加载项
+         */
+        private final List<BatchItem<?>> items;
+        /**
+         * 批量完成后的回调
+         */
+        private final OnBatchInflateFinishedListener listener;
+        /**
+         * 加载任务
+         */
+        private final List<BatchRunnable> runnables = new ArrayList<>();
+        /**
+         * 未完成数量
+         */
+        private final AtomicInteger remaining;
+        /**
+         * 绑定的生命周期
+         */
+        private Lifecycle lifecycle;
+        /**
+         * 生命周期观察者
+         */
+        private LifecycleEventObserver observer;
+        /**
+         * 是否已取消
+         */
+        private volatile boolean cancelled;
+        /**
+         * 全部完成并发送主线程消息的时间，单位纳秒
+         */
+        private volatile long postNanos;
+
+        /**
+         * Instantiates a new Inflate batch.
+         *
+         * @param inflater the inflater
+         * @param items    the items
+         * @param listener the listener
+         */
+        private InflateBatch(AsyncViewBindingInflate<?> inflater, List<BatchItem<?>> items, OnBatchInflateFinishedListener listener) {
+            this.inflater = inflater;
+            this.items = items;
+            this.listener = listener;
+            this.remaining = new AtomicInteger(items.size());
+        }
+    }
+
     /**
      * 加载请求对象
      *
@@ -160,6 +743,30 @@ public class AsyncViewBindingInflate<VB extends ViewBinding> {
          * 加载完成后的回调
          */
         OnInflateFinishedListener<VB> callback;
+        /**
+         * 加载任务
+         */
+        InflateRunnable<VB> runnable;
+        /**
+         * 绑定的生命周期
+         */
+        Lifecycle lifecycle;
+        /**
+         * 生命周期观察者
+         */
+        LifecycleEventObserver observer;
+        /**
+         * 是否已取消
+         */
+        volatile boolean cancelled;
+        /**
+         * 是否已回调，超时后在主线程创建时置为true
+         */
+        volatile boolean delivered;
+        /**
+         * 后台完成并发送主线程消息的时间，单位纳秒
+         */
+        volatile long postNanos;
 
         /**
          * 构造函数
@@ -203,10 +810,10 @@ public class AsyncViewBindingInflate<VB extends ViewBinding> {
         };
 
         /**
-         * LinkedBlockingQueue 默认构造器，队列容量是Integer.MAX_VALUE
+         * 优先级队列，按PriorityRunnable的优先级和提交顺序出队
          */
         private static final BlockingQueue<Runnable> S_POOL_WORK_QUEUE =
-                new LinkedBlockingQueue<Runnable>();
+                new PriorityBlockingQueue<Runnable>();
 
         /**
          * The constant THREAD_POOL_EXECUTOR.
@@ -227,7 +834,7 @@ public class AsyncViewBindingInflate<VB extends ViewBinding> {
          * @param request 加载请求对象
          */
         public void enqueue(InflateRequest<VB> request) {
-            THREAD_POOL_EXECUTOR.execute((new InflateRunnable<>(request)));
+            THREAD_POOL_EXECUTOR.execute(request.runnable);
 
         }
 
@@ -246,16 +853,55 @@ public class AsyncViewBindingInflate<VB extends ViewBinding> {
                 "android.app."
         };
 
+        /**
+         * 交由父类解析（android.view.）的标记
+         */
+        private static final String SUPER_PREFIX = "";
+
+        /**
+         * 标签名与解析成功的包名前缀的映射
+         * <p>
+         * 构造方法由LayoutInflater按完整类名缓存，此处只需记住前缀，
+         * 同一标签后续创建直接命中，不再逐个前缀尝试。
+         * </p>
+         */
+        private static final ConcurrentHashMap<String, String> S_PREFIX_MAP = new ConcurrentHashMap<>();
+
+        /**
+         * 已确认加载失败的完整类名
+         */
+        private static final Set<String> S_MISS_SET = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+        /**
+         * 指定的控件创建工厂
+         */
+        private final Factory2 factory;
+
         /**
          * Instantiates a new Basic inflater.
          *
          * @param context the context
+         * @param factory 指定的控件创建工厂，为空时使用Context所属AppCompatActivity的工厂
          */
-        BasicInflater(Context context) {
+        BasicInflater(Context context, Factory2 factory) {
             super(context);
-            if (context instanceof AppCompatActivity) {
-                // 手动setFactory2，兼容AppCompatTextView等控件
-                AppCompatDelegate appCompatDelegate = ((AppCompatActivity) context).getDelegate();
+            this.factory = factory;
+            if (factory != null) {
+                LayoutInflaterCompat.setFactory2(this, factory);
+                return;
+            }
+            //Dialog等带主题的ContextWrapper逐级查找所属的AppCompatActivity
+            Context base = context;
+            while (!(base instanceof AppCompatActivity) && base instanceof ContextWrapper) {
+                Context next = ((ContextWrapper) base).getBaseContext();
+                if (next == base) {
+                    break;
+                }
+                base = next;
+            }
+            if (base instanceof AppCompatActivity) {
+                // 手动setFactory2，兼容AppCompatTextView等控件，控件仍使用当前Context的主题创建
+                AppCompatDelegate appCompatDelegate = ((AppCompatActivity) base).getDelegate();
                 if (appCompatDelegate instanceof Factory2) {
                     LayoutInflaterCompat.setFactory2(this, (Factory2) appCompatDelegate);
                 }
@@ -264,27 +910,139 @@ public class AsyncViewBindingInflate<VB extends ViewBinding> {
 
         @Override
         public LayoutInflater cloneInContext(Context newContext) {
-            return new BasicInflater(newContext);
+            return new BasicInflater(newContext, factory);
         }
 
         @Override
         protected View onCreateView(String name, AttributeSet attrs) throws ClassNotFoundException {
+            String resolved = S_PREFIX_MAP.get(name);
+            if (resolved != null) {
+                return SUPER_PREFIX.equals(resolved) ? super.onCreateView(name, attrs) : createView(name, resolved, attrs);
+            }
             for (String prefix : sClassPrefixList) {
-                View view = createView(name, prefix, attrs);
-                if (view != null) {
-                    return view;
+                String fullName = prefix + name;
+                if (S_MISS_SET.contains(fullName)) {
+                    continue;
+                }
+                try {
+                    View view = createView(name, prefix, attrs);
+                    if (view != null) {
+                        S_PREFIX_MAP.put(name, prefix);
+                        return view;
+                    }
+                } catch (ClassNotFoundException e) {
+                    S_MISS_SET.add(fullName);
                 }
             }
+            View view = super.onCreateView(name, attrs);
+            S_PREFIX_MAP.put(name, SUPER_PREFIX);
+            return view;
+        }
+    }
+
+
+    /**
+     * 带优先级的任务
+     */
+    private abstract static class PriorityRunnable implements Runnable, Comparable<PriorityRunnable> {
+        /**
+         * 提交序号
+         */
+        private static final AtomicLong S_SEQUENCE = new AtomicLong();
+        /**
+         * 优先级
+         */
+        private final Priority priority;
+        /**
+         * 提交顺序
+         */
+        private final long sequence;
+        /**
+         * 创建时间，单位纳秒
+         */
+        private final long enqueueNanos;
 
-            return super.onCreateView(name, attrs);
+        /**
+         * Instantiates a new Priority runnable.
+         *
+         * @param priority the priority
+         */
+        PriorityRunnable(Priority priority) {
+            this.priority = priority;
+            this.sequence = S_SEQUENCE.getAndIncrement();
+            this.enqueueNanos = System.nanoTime();
+        }
+
+        /**
+         * 获取创建时间
+         *
+         * @return 创建时间，单位纳秒
+         */
+        long getEnqueueNanos() {
+            return enqueueNanos;
+        }
+
+        /**
+         * 获取优先级
+         *
+         * @return the priority
+         */
+        Priority getPriority() {
+            return priority;
+        }
+
+        @Override
+        public int compareTo(PriorityRunnable o) {
+            int result = priority.compareTo(o.priority);
+            return result != 0 ? result : Long.compare(sequence, o.sequence);
         }
     }
 
+    /**
+     * 批量加载任务
+     */
+    private static class BatchRunnable extends PriorityRunnable {
+        /**
+         * 批量请求
+         */
+        private final InflateBatch batch;
+        /**
+         * 加载项
+         */
+        private final BatchItem<?> item;
+
+        /**
+         * Instantiates a new Batch runnable.
+         *
+         * @param batch    the batch
+         * @param item     the item
+         * @param priority the priority
+         */
+        BatchRunnable(InflateBatch batch, BatchItem<?> item, Priority priority) {
+            super(priority);
+            this.batch = batch;
+            this.item = item;
+        }
+
+        @Override
+        public void run() {
+            InflateMetricsManager.INSTANCE.record(item.vbClass, InflateMetricsManager.Metric.QUEUE_WAIT, System.nanoTime() - getEnqueueNanos());
+            if (!batch.cancelled) {
+                //每项使用独立的LayoutInflater，避免构造参数锁使批量项串行
+                item.inflateInBackground(batch.inflater.newInflater());
+            }
+            if (batch.remaining.decrementAndGet() == 0) {
+                batch.postNanos = System.nanoTime();
+                Message.obtain(batch.inflater.mHandler, MSG_BATCH, batch)
+                        .sendToTarget();
+            }
+        }
+    }
 
     /**
      * 加载任务
      */
-    private static class InflateRunnable<VB extends ViewBinding> implements Runnable {
+    private static class InflateRunnable<VB extends ViewBinding> extends PriorityRunnable {
         /**
          * The Request.
          */
@@ -297,21 +1055,30 @@ public class AsyncViewBindingInflate<VB extends ViewBinding> {
         /**
          * Instantiates a new Inflate runnable.
          *
-         * @param request the request
+         * @param request  the request
+         * @param priority the priority
          */
-        public InflateRunnable(InflateRequest<VB> request) {
+        public InflateRunnable(InflateRequest<VB> request, Priority priority) {
+            super(priority);
             this.request = request;
         }
 
         @Override
         public void run() {
             isRunning = true;
-            try {
-                request.binding = inflate(request.vbClass, request.inflater.mInflater, request.parent, false);
-            } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
-                throw new RuntimeException(e);
+            InflateMetricsManager.INSTANCE.record(request.vbClass, InflateMetricsManager.Metric.QUEUE_WAIT, System.nanoTime() - getEnqueueNanos());
+            if (!request.cancelled && !request.delivered) {
+                try {
+                    request.binding = inflate(request.vbClass, request.inflater.newInflater(), request.parent, false);
+                    S_FAILURE_MAP.remove(request.vbClass);
+                } catch (Exception e) {
+                    //后台加载失败时交由主线程重新加载并回调错误
+                    request.binding = null;
+                    onBackgroundFailed(request.vbClass, e);
+                }
             }
-            Message.obtain(request.inflater.mHandler, 0, request)
+            request.postNanos = System.nanoTime();
+            Message.obtain(request.inflater.mHandler, MSG_INFLATE, request)
                     .sendToTarget();
         }
 
@@ -326,6 +1093,70 @@ public class AsyncViewBindingInflate<VB extends ViewBinding> {
     }
 
 
+    /**
+     * 记录后台创建失败
+     * <p>
+     * 线程限制导致的失败立即改为主线程创建，其他异常可能是偶发的，连续失败达到上限后才改为主线程创建。
+     * </p>
+     *
+     * @param cls ViewBinding类
+     * @param e   异常
+     */
+    private static void onBackgroundFailed(Class<?> cls, Throwable e) {
+        if (isThreadAffinityError(e)) {
+            S_MAIN_THREAD_CLASS_SET.add(cls);
+            S_FAILURE_MAP.remove(cls);
+            return;
+        }
+        AtomicInteger count = S_FAILURE_MAP.get(cls);
+        if (count == null) {
+            AtomicInteger newCount = new AtomicInteger();
+            count = S_FAILURE_MAP.putIfAbsent(cls, newCount);
+            if (count == null) {
+                count = newCount;
+            }
+        }
+        if (count.incrementAndGet() >= MAX_BACKGROUND_FAILURES) {
+            S_MAIN_THREAD_CLASS_SET.add(cls);
+            S_FAILURE_MAP.remove(cls);
+        }
+    }
+
+    /**
+     * 是否为只能在主线程执行导致的异常
+     * <p>
+     * 如控件构造时创建Handler、WebView等要求在主线程调用。
+     * </p>
+     *
+     * @param e 异常
+     * @return the boolean
+     */
+    private static boolean isThreadAffinityError(Throwable e) {
+        for (int depth = 0; e != null && depth < 10; e = e.getCause(), depth++) {
+            if ("CalledFromWrongThreadException".equals(e.getClass().getSimpleName())) {
+                return true;
+            }
+            String message = e.getMessage();
+            if (message != null && (message.contains("Looper.prepare()")
+                    || message.contains("main thread") || message.contains("UI thread"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 复制布局填充器
+     * <p>
+     * 副本沿用相同的Context与Factory2，供单个后台请求独占使用。
+     * </p>
+     *
+     * @return 新的布局填充器
+     */
+    LayoutInflater newInflater() {
+        return mInflater.cloneInContext(mInflater.getContext());
+    }
+
     /**
      * Obtain request inflate request.
      *
@@ -345,6 +1176,12 @@ public class AsyncViewBindingInflate<VB extends ViewBinding> {
      * @param obj the obj
      */
     public void releaseRequest(InflateRequest<VB> obj) {
+        if (obj.lifecycle != null) {
+            obj.lifecycle.removeObserver(obj.observer);
+        }
+        obj.lifecycle = null;
+        obj.observer = null;
+        obj.runnable = null;
         obj.callback = null;
         obj.inflater = null;
         obj.parent = null;
@@ -367,12 +1204,17 @@ public class AsyncViewBindingInflate<VB extends ViewBinding> {
      * @throws NoSuchMethodException     the no such method exception
      */
     public static <T extends ViewBinding> T inflate(Class<T> tClass, LayoutInflater layoutInflater, ViewGroup parent, boolean attachToParent) throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
-        Method inflateMethod = tClass.getMethod("inflate", LayoutInflater.class, ViewGroup.class, boolean.class);
-        return (T) inflateMethod.invoke(null, layoutInflater, parent, attachToParent);
+        long start = System.nanoTime();
+        T binding = ViewBindingFactoryManager.INSTANCE.inflate(tClass, layoutInflater, parent, attachToParent);
+        InflateMetricsManager.INSTANCE.record(tClass, InflateMetricsManager.Metric.INFLATE, System.nanoTime() - start);
+        return binding;
     }
 
     /**
-     * Cancel.
+     * 取消全部回调
+     * <p>
+     * 会影响共用该填充器的所有页面，通过 {@link #obtain(Context)} 获取的实例请使用生命周期自动取消。
+     * </p>
      */
     public void cancel() {
         mHandler.removeCallbacksAndMessages(null);
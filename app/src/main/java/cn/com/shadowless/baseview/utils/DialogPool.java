@@ -0,0 +1,233 @@
+package cn.com.shadowless.baseview.utils;
+
+import android.content.Context;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleEventObserver;
+import androidx.lifecycle.LifecycleOwner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import cn.com.shadowless.baseview.base.view.BaseDialog;
+
+/**
+ * Dialog复用池
+ * <p>
+ * 按宿主Activity和Dialog类缓存开启复用的 {@link BaseDialog}，取用时返回未在显示且未被取出的实例，
+ * 不足时通过创建器创建并提前异步加载布局。Dialog随宿主销毁，宿主销毁时自动清空。
+ * 未开启复用的Dialog不会放入池中。
+ * 取出的实例在dismiss后自动归还；取出后不再显示时需调用 {@link #release} 归还，否则不会再被取用。
+ * </p>
+ *
+ * @author sHadowLess
+ */
+public enum DialogPool {
+
+    /**
+     * Dialog复用池单例实例
+     */
+    INSTANCE;
+
+    /**
+     * 默认单个Dialog类容量
+     */
+    private static final int DEFAULT_CAPACITY = 2;
+
+    /**
+     * 各宿主缓存的Dialog
+     */
+    private final Map<Context, Map<Class<?>, List<BaseDialog<?>>>> poolMap = new HashMap<>();
+
+    /**
+     * 已取出尚未归还的Dialog
+     */
+    private final Set<BaseDialog<?>> checkedOutSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * 单个Dialog类容量
+     */
+    private int capacity = DEFAULT_CAPACITY;
+
+    /**
+     * Dialog创建器
+     *
+     * @param <D> Dialog类型
+     */
+    public interface DialogCreator<D extends BaseDialog<?>> {
+        /**
+         * 创建Dialog
+         *
+         * @param context 宿主
+         * @return the dialog
+         */
+        @NonNull
+        D create(@NonNull Context context);
+    }
+
+    /**
+     * 设置单个Dialog类容量
+     *
+     * @param capacity 容量
+     */
+    @MainThread
+    public void setCapacity(int capacity) {
+        this.capacity = Math.max(0, capacity);
+    }
+
+    /**
+     * 预创建Dialog
+     * <p>
+     * 创建并异步加载布局后放入池中，已达容量时忽略。
+     * </p>
+     *
+     * @param <D>     Dialog类型
+     * @param context 宿主，需具备生命周期
+     * @param cls     Dialog类
+     * @param creator 创建器
+     */
+    @MainThread
+    public <D extends BaseDialog<?>> void prebuild(@NonNull Context context, @NonNull Class<D> cls, @NonNull DialogCreator<D> creator) {
+        List<BaseDialog<?>> list = getList(context, cls);
+        if (list == null || list.size() >= capacity) {
+            return;
+        }
+        D dialog = creator.create(context);
+        if (!dialog.isReusable()) {
+            return;
+        }
+        add(list, dialog);
+        dialog.preBuild(null);
+    }
+
+    /**
+     * 获取Dialog
+     * <p>
+     * 优先返回池中未在显示且未被取出的实例，否则创建新实例，未达容量且开启复用时放入池中。
+     * 返回的实例标记为已取出，dismiss后归还。
+     * </p>
+     *
+     * @param <D>     Dialog类型
+     * @param context 宿主
+     * @param cls     Dialog类
+     * @param creator 创建器
+     * @return the dialog
+     */
+    @MainThread
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public <D extends BaseDialog<?>> D obtain(@NonNull Context context, @NonNull Class<D> cls, @NonNull DialogCreator<D> creator) {
+        List<BaseDialog<?>> list = getList(context, cls);
+        if (list != null) {
+            for (int i = list.size() - 1; i >= 0; i--) {
+                BaseDialog<?> dialog = list.get(i);
+                if (dialog.isDestroyed()) {
+                    list.remove(i);
+                } else if (!dialog.isShowing() && checkedOutSet.add(dialog)) {
+                    return (D) dialog;
+                }
+            }
+        }
+        D dialog = creator.create(context);
+        if (list != null && list.size() < capacity && dialog.isReusable()) {
+            add(list, dialog);
+            checkedOutSet.add(dialog);
+        }
+        return dialog;
+    }
+
+    /**
+     * 归还Dialog
+     * <p>
+     * 取出后未显示便不再使用时调用，显示过的实例dismiss后已自动归还。
+     * </p>
+     *
+     * @param dialog 取出的Dialog
+     */
+    @MainThread
+    public void release(@NonNull BaseDialog<?> dialog) {
+        checkedOutSet.remove(dialog);
+    }
+
+    /**
+     * 清空宿主缓存的Dialog
+     *
+     * @param context 宿主
+     */
+    @MainThread
+    public void clear(@NonNull Context context) {
+        Map<Class<?>, List<BaseDialog<?>>> classMap = poolMap.remove(context);
+        if (classMap == null) {
+            return;
+        }
+        for (List<BaseDialog<?>> list : classMap.values()) {
+            //销毁时会从列表中移除，遍历副本
+            for (BaseDialog<?> dialog : new ArrayList<>(list)) {
+                dialog.destroy();
+            }
+        }
+    }
+
+    /**
+     * 放入池中
+     * <p>
+     * 监听Dialog生命周期，dismiss后归还，销毁后移出池。
+     * </p>
+     *
+     * @param list   Dialog类的缓存
+     * @param dialog the dialog
+     */
+    private void add(List<BaseDialog<?>> list, BaseDialog<?> dialog) {
+        list.add(dialog);
+        dialog.getLifecycle().addObserver((LifecycleEventObserver) (source, event) -> {
+            if (event == Lifecycle.Event.ON_STOP) {
+                checkedOutSet.remove(dialog);
+            } else if (event == Lifecycle.Event.ON_DESTROY) {
+                checkedOutSet.remove(dialog);
+                list.remove(dialog);
+            }
+        });
+    }
+
+    /**
+     * 获取宿主下Dialog类的缓存
+     *
+     * @param context 宿主
+     * @param cls     Dialog类
+     * @return 宿主不具备生命周期或已销毁时返回null
+     */
+    @Nullable
+    private List<BaseDialog<?>> getList(Context context, Class<?> cls) {
+        Map<Class<?>, List<BaseDialog<?>>> classMap = poolMap.get(context);
+        if (classMap == null) {
+            if (!(context instanceof LifecycleOwner)) {
+                return null;
+            }
+            Lifecycle lifecycle = ((LifecycleOwner) context).getLifecycle();
+            if (lifecycle.getCurrentState() == Lifecycle.State.DESTROYED) {
+                return null;
+            }
+            lifecycle.addObserver((LifecycleEventObserver) (source, event) -> {
+                if (event == Lifecycle.Event.ON_DESTROY) {
+                    poolMap.remove(context);
+                }
+            });
+            classMap = new HashMap<>();
+            poolMap.put(context, classMap);
+        }
+        List<BaseDialog<?>> list = classMap.get(cls);
+        if (list == null) {
+            list = new ArrayList<>();
+            classMap.put(cls, list);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,172 @@
+package cn.com.shadowless.baseview.utils;
+
+import android.os.Handler;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+
+/**
+ * 首帧调度器
+ * <p>
+ * 在视图所在窗口完成首次绘制后立即执行任务：通过 {@link ViewTreeObserver.OnDrawListener} 感知绘制，
+ * 再以postAtFrontOfQueue排到本次绘制消息之后，不等待固定延时。
+ * 视图迟迟未绘制时（如被隐藏），由超时兜底执行，任务只会执行一次。
+ * </p>
+ *
+ * @author sHadowLess
+ */
+public final class FirstDrawScheduler {
+
+    /**
+     * 默认超时时间，与原固定延时一致，保证不会比原来更晚执行
+     */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 100;
+
+    /**
+     * 目标视图
+     */
+    private final View view;
+
+    /**
+     * 主线程Handler
+     */
+    private final Handler handler;
+
+    /**
+     * 待执行任务
+     */
+    private final Runnable action;
+
+    /**
+     * 执行任务，保证只执行一次
+     */
+    private final Runnable runOnce = this::runOnce;
+
+    /**
+     * 注册监听的ViewTreeObserver
+     */
+    private ViewTreeObserver observer;
+
+    /**
+     * 是否已执行或已取消
+     */
+    private boolean isDone = false;
+
+    /**
+     * 绘制监听
+     */
+    private final ViewTreeObserver.OnDrawListener drawListener = new ViewTreeObserver.OnDrawListener() {
+        @Override
+        public void onDraw() {
+            //onDraw中不能移除监听，排到本次绘制之后执行
+            handler.postAtFrontOfQueue(runOnce);
+        }
+    };
+
+    /**
+     * 视图附加监听，附加到窗口后再注册绘制监听
+     */
+    private final View.OnAttachStateChangeListener attachListener = new View.OnAttachStateChangeListener() {
+        @Override
+        public void onViewAttachedToWindow(View v) {
+            v.removeOnAttachStateChangeListener(this);
+            addDrawListener();
+        }
+
+        @Override
+        public void onViewDetachedFromWindow(View v) {
+
+        }
+    };
+
+    /**
+     * Instantiates a new First draw scheduler.
+     *
+     * @param view    the view
+     * @param handler the handler
+     * @param action  the action
+     */
+    private FirstDrawScheduler(View view, Handler handler, Runnable action) {
+        this.view = view;
+        this.handler = handler;
+        this.action = action;
+    }
+
+    /**
+     * 在视图首次绘制后执行任务
+     *
+     * @param view          目标视图
+     * @param handler       主线程Handler
+     * @param timeoutMillis 超时时间，超时后直接执行
+     * @param action        待执行任务
+     * @return 调度器，用于取消
+     */
+    @MainThread
+    @NonNull
+    public static FirstDrawScheduler schedule(@NonNull View view, @NonNull Handler handler, long timeoutMillis, @NonNull Runnable action) {
+        FirstDrawScheduler scheduler = new FirstDrawScheduler(view, handler, action);
+        if (isAttachedToWindow(view)) {
+            scheduler.addDrawListener();
+        } else {
+            view.addOnAttachStateChangeListener(scheduler.attachListener);
+        }
+        handler.postDelayed(scheduler.runOnce, timeoutMillis);
+        return scheduler;
+    }
+
+    /**
+     * 取消任务
+     * <p>
+     * 视图销毁时调用。
+     * </p>
+     */
+    @MainThread
+    public void cancel() {
+        isDone = true;
+        release();
+    }
+
+    /**
+     * 执行任务
+     */
+    private void runOnce() {
+        if (isDone) {
+            return;
+        }
+        isDone = true;
+        release();
+        action.run();
+    }
+
+    /**
+     * 注册绘制监听
+     */
+    private void addDrawListener() {
+        observer = view.getViewTreeObserver();
+        observer.addOnDrawListener(drawListener);
+    }
+
+    /**
+     * 移除监听和待执行消息
+     */
+    private void release() {
+        handler.removeCallbacks(runOnce);
+        view.removeOnAttachStateChangeListener(attachListener);
+        if (observer != null && observer.isAlive()) {
+            observer.removeOnDrawListener(drawListener);
+        }
+        observer = null;
+    }
+
+    /**
+     * 视图是否已附加到窗口
+     *
+     * @param view the view
+     * @return the boolean
+     */
+    private static boolean isAttachedToWindow(View view) {
+        return view.getWindowToken() != null;
+    }
+}
@@ -0,0 +1,351 @@
+package cn.com.shadowless.baseview.utils;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleEventObserver;
+import androidx.lifecycle.LifecycleOwner;
+import androidx.viewbinding.ViewBinding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 空闲预加载调度器
+ * <p>
+ * 注册主线程 {@link MessageQueue.IdleHandler}，在主线程空闲时将"下一个可能打开"的页面视图
+ * 逐个提交给 {@link ViewBindingPool} 预加载。候选来源包括手动声明的ViewBinding，
+ * 以及根据同一Context内页面切换历史学习到的后继页面。
+ * 每次只提交一个请求并等待其完成；提交前先发送延时探测消息，
+ * 期间主线程只要处理了帧或输入等其他消息就放弃本轮，直到安静一段时间后再继续。
+ * 学习默认关闭，需通过 {@link #setLearnEnable} 开启；不存在任何候选时移除IdleHandler，不再占用主线程空闲回调。
+ * </p>
+ *
+ * @author sHadowLess
+ */
+public enum IdleInflateScheduler implements MessageQueue.IdleHandler {
+
+    /**
+     * 空闲预加载调度器单例实例
+     */
+    INSTANCE;
+
+    /**
+     * 判定为安静空闲所需的最短间隔
+     */
+    private static final long QUIET_MILLIS = 200;
+
+    /**
+     * 每个页面学习的后继页面数量
+     */
+    private static final int LEARNED_COUNT = 2;
+
+    /**
+     * 主线程Handler
+     */
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * 各Context手动声明的候选ViewBinding
+     */
+    private final Map<Context, Set<Class<? extends ViewBinding>>> declaredMap = new HashMap<>();
+
+    /**
+     * 各Context最近展示的ViewBinding
+     */
+    private final Map<Context, Class<? extends ViewBinding>> lastShownMap = new HashMap<>();
+
+    /**
+     * 页面切换次数，前一个ViewBinding -> (后一个ViewBinding -> 次数)
+     */
+    private final Map<Class<?>, Map<Class<? extends ViewBinding>, Integer>> transitionMap = new HashMap<>();
+
+    /**
+     * 是否开启学习
+     */
+    private boolean isLearnEnable = false;
+
+    /**
+     * 是否已注册IdleHandler
+     */
+    private boolean isRegistered = false;
+
+    /**
+     * 是否有预加载正在执行
+     */
+    private boolean isInFlight = false;
+
+    /**
+     * 是否已发送探测消息
+     */
+    private boolean isProbing = false;
+
+    /**
+     * 探测期间是否处理过其他消息
+     */
+    private boolean isInterrupted = false;
+
+    /**
+     * 是否已确认主线程安静
+     */
+    private boolean isQuiet = false;
+
+    /**
+     * 轮询候选的位置
+     */
+    private int cursor = 0;
+
+    /**
+     * 探测消息，期间未被其他消息打断则确认主线程安静
+     */
+    private final Runnable probeRunnable = () -> {
+        isProbing = false;
+        isQuiet = !isInterrupted;
+    };
+
+    /**
+     * 声明Context空闲时可能打开的页面
+     *
+     * @param context 页面使用的Context，Fragment请传入依附的Activity
+     * @param classes 候选ViewBinding类
+     */
+    @SafeVarargs
+    @MainThread
+    public final void declare(@NonNull Context context, @NonNull Class<? extends ViewBinding>... classes) {
+        if (!observe(context)) {
+            return;
+        }
+        Set<Class<? extends ViewBinding>> declared = declaredMap.get(context);
+        if (declared == null) {
+            declared = new LinkedHashSet<>();
+            declaredMap.put(context, declared);
+        }
+        for (Class<? extends ViewBinding> cls : classes) {
+            declared.add(cls);
+        }
+        register();
+    }
+
+    /**
+     * 设置是否根据页面切换历史学习候选
+     * <p>
+     * 默认关闭，开启后基类每次创建视图都会记录页面切换。
+     * </p>
+     *
+     * @param learnEnable 是否开启
+     */
+    @MainThread
+    public void setLearnEnable(boolean learnEnable) {
+        isLearnEnable = learnEnable;
+    }
+
+    /**
+     * 记录页面展示
+     * <p>
+     * 由基类在创建视图时调用，记录同一Context内从上一个页面到当前页面的切换。
+     * </p>
+     *
+     * @param context 页面使用的Context
+     * @param cls     当前页面的ViewBinding类
+     */
+    @MainThread
+    public void onBindingShown(@NonNull Context context, @NonNull Class<? extends ViewBinding> cls) {
+        if (!isLearnEnable || Looper.myLooper() != Looper.getMainLooper() || !observe(context)) {
+            return;
+        }
+        Class<? extends ViewBinding> last = lastShownMap.put(context, cls);
+        if (last == null || last == cls) {
+            return;
+        }
+        Map<Class<? extends ViewBinding>, Integer> countMap = transitionMap.get(last);
+        if (countMap == null) {
+            countMap = new HashMap<>();
+            transitionMap.put(last, countMap);
+        }
+        Integer count = countMap.get(cls);
+        countMap.put(cls, count == null ? 1 : count + 1);
+        register();
+    }
+
+    @Override
+    public boolean queueIdle() {
+        if (isProbing) {
+            //探测期间队列再次空闲，说明主线程处理了帧或输入
+            isInterrupted = true;
+            return true;
+        }
+        if (isInFlight) {
+            return true;
+        }
+        if (!hasCandidates()) {
+            //没有可预加载的候选，移除IdleHandler，再次声明或学习到切换时重新注册
+            unregister();
+            return false;
+        }
+        Context context = findActiveContext();
+        if (context == null) {
+            return true;
+        }
+        if (!isQuiet) {
+            probe();
+            return true;
+        }
+        isQuiet = false;
+        List<Class<? extends ViewBinding>> candidates = getCandidates(context);
+        for (int i = 0; i < candidates.size(); i++) {
+            Class<? extends ViewBinding> cls = candidates.get((cursor + i) % candidates.size());
+            if (ViewBindingPool.INSTANCE.prefetch(context, cls, this::onPrefetchFinished)) {
+                cursor = cursor + i + 1;
+                isInFlight = true;
+                return true;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 预加载结束，稍后继续下一个
+     */
+    private void onPrefetchFinished() {
+        isInFlight = false;
+        if (!isProbing) {
+            probe();
+        }
+    }
+
+    /**
+     * 发送探测消息
+     */
+    private void probe() {
+        if (isProbing) {
+            return;
+        }
+        isProbing = true;
+        isInterrupted = false;
+        mainHandler.postDelayed(probeRunnable, QUIET_MILLIS);
+    }
+
+    /**
+     * 注册IdleHandler
+     */
+    private void register() {
+        if (isRegistered) {
+            return;
+        }
+        Looper.myQueue().addIdleHandler(this);
+        isRegistered = true;
+    }
+
+    /**
+     * 取消探测并标记IdleHandler已移除
+     * <p>
+     * 在queueIdle中返回false时由消息队列移除，其他时机需手动移除。
+     * </p>
+     */
+    private void unregister() {
+        mainHandler.removeCallbacks(probeRunnable);
+        isProbing = false;
+        isQuiet = false;
+        isRegistered = false;
+    }
+
+    /**
+     * 是否存在可预加载的候选
+     *
+     * @return the boolean
+     */
+    private boolean hasCandidates() {
+        if (isLearnEnable && !transitionMap.isEmpty()) {
+            return true;
+        }
+        for (Set<Class<? extends ViewBinding>> declared : declaredMap.values()) {
+            if (!declared.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 监听Context销毁
+     *
+     * @param context the context
+     * @return Context是否可用
+     */
+    private boolean observe(Context context) {
+        if (declaredMap.containsKey(context) || lastShownMap.containsKey(context)) {
+            return true;
+        }
+        if (!(context instanceof LifecycleOwner)) {
+            return false;
+        }
+        Lifecycle lifecycle = ((LifecycleOwner) context).getLifecycle();
+        if (lifecycle.getCurrentState() == Lifecycle.State.DESTROYED) {
+            return false;
+        }
+        lifecycle.addObserver((LifecycleEventObserver) (source, event) -> {
+            if (event == Lifecycle.Event.ON_DESTROY) {
+                declaredMap.remove(context);
+                lastShownMap.remove(context);
+                isInFlight = false;
+                if (isRegistered && !hasCandidates()) {
+                    Looper.myQueue().removeIdleHandler(this);
+                    unregister();
+                }
+            }
+        });
+        //先占位，避免重复添加观察者
+        declaredMap.put(context, new LinkedHashSet<>());
+        return true;
+    }
+
+    /**
+     * 查找处于前台的Context
+     *
+     * @return the context
+     */
+    private Context findActiveContext() {
+        for (Context context : declaredMap.keySet()) {
+            Lifecycle lifecycle = ((LifecycleOwner) context).getLifecycle();
+            if (lifecycle.getCurrentState().isAtLeast(Lifecycle.State.RESUMED)) {
+                return context;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取候选ViewBinding
+     *
+     * @param context the context
+     * @return 手动声明的在前，学习到的在后
+     */
+    private List<Class<? extends ViewBinding>> getCandidates(Context context) {
+        Set<Class<? extends ViewBinding>> candidates = new LinkedHashSet<>();
+        Set<Class<? extends ViewBinding>> declared = declaredMap.get(context);
+        if (declared != null) {
+            candidates.addAll(declared);
+        }
+        Class<? extends ViewBinding> last = lastShownMap.get(context);
+        Map<Class<? extends ViewBinding>, Integer> countMap = last == null ? null : transitionMap.get(last);
+        if (countMap != null) {
+            List<Map.Entry<Class<? extends ViewBinding>, Integer>> entries = new ArrayList<>(countMap.entrySet());
+            Collections.sort(entries, (o1, o2) -> o2.getValue().compareTo(o1.getValue()));
+            for (int i = 0; i < entries.size() && i < LEARNED_COUNT; i++) {
+                candidates.add(entries.get(i).getKey());
+            }
+        }
+        candidates.remove(last);
+        return new ArrayList<>(candidates);
+    }
+}
@@ -0,0 +1,290 @@
+package cn.com.shadowless.baseview.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 分帧初始化流水线
+ * <p>
+ * 将initEvent拆分为按优先级排列的任务单元，每帧执行的单元耗时不超过帧预算，
+ * 超出后等待下一个vsync绘制完成再继续，避免一次性执行导致首帧卡顿。
+ * 每帧至少执行一个单元，单元执行过程中可继续添加任务。
+ * 异步单元通知完成前，后续单元不会执行，用于等待后台任务后再进入下一阶段。
+ * </p>
+ *
+ * @author sHadowLess
+ */
+public final class InitPipeline {
+
+    /**
+     * 初始化视图
+     */
+    public static final int PRIORITY_VIEW = 0;
+
+    /**
+     * 初始化视图监听
+     */
+    public static final int PRIORITY_VIEW_LISTENER = 100;
+
+    /**
+     * 初始化数据监听
+     */
+    public static final int PRIORITY_DATA_LISTENER = 200;
+
+    /**
+     * 初始化数据
+     */
+    public static final int PRIORITY_DATA = 300;
+
+    /**
+     * 权限申请
+     */
+    public static final int PRIORITY_PERMISSION = 400;
+
+    /**
+     * 默认每帧预算
+     */
+    public static final long DEFAULT_FRAME_BUDGET_MILLIS = 8;
+
+    /**
+     * 待执行单元
+     */
+    private final PriorityQueue<InitTask> taskQueue = new PriorityQueue<>();
+
+    /**
+     * 主线程Handler
+     */
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    /**
+     * 本帧绘制完成后继续执行
+     */
+    private final Runnable runRunnable = this::runUntilBudget;
+
+    /**
+     * 下一帧回调
+     */
+    private final Choreographer.FrameCallback frameCallback = frameTimeNanos -> handler.post(runRunnable);
+
+    /**
+     * 每帧预算，单位纳秒
+     */
+    private long frameBudgetNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_FRAME_BUDGET_MILLIS);
+
+    /**
+     * 全部完成后的回调
+     */
+    private Runnable onFinished;
+
+    /**
+     * 添加顺序
+     */
+    private int sequence = 0;
+
+    /**
+     * 是否已开始
+     */
+    private boolean isStarted = false;
+
+    /**
+     * 是否已取消
+     */
+    private boolean isCancelled = false;
+
+    /**
+     * 是否在等待异步单元完成
+     */
+    private boolean isWaiting = false;
+
+    /**
+     * 异步任务单元
+     */
+    public interface AsyncTask {
+        /**
+         * 执行任务
+         *
+         * @param onComplete 任务完成后在主线程调用，只需调用一次
+         */
+        void run(@NonNull Runnable onComplete);
+    }
+
+    /**
+     * 任务单元
+     */
+    private static final class InitTask implements Comparable<InitTask> {
+        /**
+         * 优先级，数值越小越先执行
+         */
+        private final int priority;
+        /**
+         * 添加顺序
+         */
+        private final int sequence;
+        /**
+         * 任务
+         */
+        private final Runnable task;
+        /**
+         * 异步任务
+         */
+        private final AsyncTask asyncTask;
+
+        /**
+         * Instantiates a new Init task.
+         *
+         * @param priority  the priority
+         * @param sequence  the sequence
+         * @param task      the task
+         * @param asyncTask the async task
+         */
+        private InitTask(int priority, int sequence, Runnable task, AsyncTask asyncTask) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.task = task;
+            this.asyncTask = asyncTask;
+        }
+
+        @Override
+        public int compareTo(InitTask o) {
+            int result = Integer.compare(priority, o.priority);
+            return result != 0 ? result : Integer.compare(sequence, o.sequence);
+        }
+    }
+
+    /**
+     * 添加任务单元
+     * <p>
+     * 同优先级按添加顺序执行，可使用PRIORITY_*常量穿插到对应阶段前后。
+     * </p>
+     *
+     * @param priority 优先级，数值越小越先执行
+     * @param task     任务
+     * @return the init pipeline
+     */
+    @MainThread
+    public InitPipeline add(int priority, @NonNull Runnable task) {
+        taskQueue.offer(new InitTask(priority, sequence++, task, null));
+        return this;
+    }
+
+    /**
+     * 添加异步任务单元
+     * <p>
+     * 执行后等待其通知完成，期间不执行后续单元，完成后在下一次执行中继续。
+     * </p>
+     *
+     * @param priority 优先级，数值越小越先执行
+     * @param task     异步任务
+     * @return the init pipeline
+     */
+    @MainThread
+    public InitPipeline addAsync(int priority, @NonNull AsyncTask task) {
+        taskQueue.offer(new InitTask(priority, sequence++, null, task));
+        return this;
+    }
+
+    /**
+     * 开始执行
+     * <p>
+     * 立即执行第一批单元，剩余单元分摊到后续帧。
+     * </p>
+     *
+     * @param frameBudgetMillis 每帧预算，单位毫秒
+     * @param onFinished        全部完成后的回调
+     */
+    @MainThread
+    public void start(long frameBudgetMillis, @Nullable Runnable onFinished) {
+        if (isStarted) {
+            return;
+        }
+        isStarted = true;
+        this.frameBudgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, frameBudgetMillis));
+        this.onFinished = onFinished;
+        runUntilBudget();
+    }
+
+    /**
+     * 取消执行
+     * <p>
+     * 视图销毁时调用，未执行的单元直接丢弃。
+     * </p>
+     */
+    @MainThread
+    public void cancel() {
+        isCancelled = true;
+        taskQueue.clear();
+        onFinished = null;
+        Choreographer.getInstance().removeFrameCallback(frameCallback);
+        handler.removeCallbacks(runRunnable);
+    }
+
+    /**
+     * 在预算内执行单元
+     */
+    private void runUntilBudget() {
+        long start = System.nanoTime();
+        do {
+            if (isCancelled) {
+                return;
+            }
+            InitTask task = taskQueue.poll();
+            if (task == null) {
+                break;
+            }
+            if (task.asyncTask != null) {
+                runAsync(task.asyncTask);
+                if (isWaiting) {
+                    //等待异步单元完成后再继续
+                    return;
+                }
+                continue;
+            }
+            task.task.run();
+        } while (System.nanoTime() - start < frameBudgetNanos);
+        if (isCancelled) {
+            return;
+        }
+        if (!taskQueue.isEmpty()) {
+            Choreographer.getInstance().postFrameCallback(frameCallback);
+            return;
+        }
+        Runnable finished = onFinished;
+        onFinished = null;
+        if (finished != null) {
+            finished.run();
+        }
+    }
+
+    /**
+     * 执行异步单元
+     * <p>
+     * 同步完成时直接继续，否则完成后发送消息继续执行，重复通知只生效一次。
+     * </p>
+     *
+     * @param task 异步任务
+     */
+    private void runAsync(AsyncTask task) {
+        isWaiting = true;
+        boolean[] isRunning = {true};
+        boolean[] isCompleted = {false};
+        task.run(() -> {
+            if (isCompleted[0]) {
+                return;
+            }
+            isCompleted[0] = true;
+            isWaiting = false;
+            if (!isRunning[0] && !isCancelled) {
+                handler.post(runRunnable);
+            }
+        });
+        isRunning[0] = false;
+    }
+}
@@ -0,0 +1,442 @@
+package cn.com.shadowless.baseview.utils;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.view.ViewGroup;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleEventObserver;
+import androidx.lifecycle.LifecycleOwner;
+import androidx.viewbinding.ViewBinding;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ViewBinding预加载池
+ * <p>
+ * 基于 {@link AsyncViewBindingInflate} 在后台线程提前创建声明为"下一个可能打开"的页面视图，
+ * 页面同步加载时直接取用已创建的实例，避免在主线程解析布局。
+ * 按ViewBinding类限制容量，整体按LRU淘汰，并在系统内存紧张时释放。
+ * 池中实例只会交给与预加载时相同Context的页面，Context销毁时自动清空。
+ * 只接受具备生命周期的Context，避免无法感知销毁的Context被池长期持有。
+ * </p>
+ *
+ * @author sHadowLess
+ */
+public enum ViewBindingPool implements ComponentCallbacks2 {
+
+    /**
+     * ViewBinding预加载池单例实例
+     */
+    INSTANCE;
+
+    /**
+     * 默认单个ViewBinding类容量
+     */
+    private static final int DEFAULT_CAPACITY = 1;
+
+    /**
+     * 默认池总容量
+     */
+    private static final int DEFAULT_MAX_SIZE = 8;
+
+    /**
+     * 按使用顺序排列的缓存，最久未使用的ViewBinding类在最前
+     * <p>
+     * 只在放入和取出时通过 {@link #touch} 调整顺序，查询数量不影响淘汰顺序。
+     * </p>
+     */
+    private final LinkedHashMap<Class<?>, ArrayDeque<PoolEntry>> poolMap = new LinkedHashMap<>();
+
+    /**
+     * ViewBinding类容量配置
+     */
+    private final Map<Class<?>, Integer> capacityMap = new HashMap<>();
+
+    /**
+     * 各Context正在预加载的数量
+     */
+    private final Map<Context, Map<Class<?>, Integer>> pendingMap = new HashMap<>();
+
+    /**
+     * 已监听销毁的Context
+     */
+    private final Map<Context, Boolean> observedContextMap = new HashMap<>();
+
+    /**
+     * 池总容量
+     */
+    private int maxSize = DEFAULT_MAX_SIZE;
+
+    /**
+     * 当前池内实例数
+     */
+    private int size = 0;
+
+    /**
+     * 是否已注册内存回调
+     */
+    private boolean isRegistered = false;
+
+    /**
+     * 池内实例
+     */
+    private static final class PoolEntry {
+        /**
+         * 创建时使用的Context
+         */
+        private final Context context;
+        /**
+         * 已创建的ViewBinding
+         */
+        private final ViewBinding binding;
+
+        /**
+         * Instantiates a new Pool entry.
+         *
+         * @param context the context
+         * @param binding the binding
+         */
+        private PoolEntry(Context context, ViewBinding binding) {
+            this.context = context;
+            this.binding = binding;
+        }
+    }
+
+    /**
+     * 设置池总容量
+     *
+     * @param maxSize 总容量
+     */
+    @MainThread
+    public synchronized void setMaxSize(int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        trimToSize(this.maxSize);
+    }
+
+    /**
+     * 设置单个ViewBinding类容量
+     *
+     * @param cls      ViewBinding类
+     * @param capacity 容量
+     */
+    @MainThread
+    public synchronized void setCapacity(@NonNull Class<? extends ViewBinding> cls, int capacity) {
+        int newCapacity = Math.max(0, capacity);
+        capacityMap.put(cls, newCapacity);
+        ArrayDeque<PoolEntry> deque = poolMap.get(cls);
+        if (deque == null) {
+            return;
+        }
+        while (deque.size() > newCapacity) {
+            deque.pollFirst();
+            size--;
+        }
+        if (deque.isEmpty()) {
+            poolMap.remove(cls);
+        }
+    }
+
+    /**
+     * 预加载ViewBinding
+     * <p>
+     * 在后台线程以最低优先级创建，完成后放入池中，已达容量时忽略，Context销毁时取消。
+     * Context不具备生命周期或已销毁时不预加载。
+     * </p>
+     *
+     * @param <VB>    ViewBinding类型参数
+     * @param context 页面使用的Context，Fragment请传入依附的Activity
+     * @param cls     ViewBinding类
+     * @return 是否发起了预加载
+     */
+    @MainThread
+    public <VB extends ViewBinding> boolean prefetch(@NonNull Context context, @NonNull Class<VB> cls) {
+        return prefetch(context, cls, null);
+    }
+
+    /**
+     * 预加载ViewBinding
+     *
+     * @param <VB>       ViewBinding类型参数
+     * @param context    页面使用的Context，Fragment请传入依附的Activity
+     * @param cls        ViewBinding类
+     * @param onFinished 预加载结束（成功或失败）后的主线程回调，Context销毁导致取消时不回调
+     * @return 是否发起了预加载
+     */
+    @MainThread
+    public <VB extends ViewBinding> boolean prefetch(@NonNull Context context, @NonNull Class<VB> cls, @Nullable Runnable onFinished) {
+        if (!(context instanceof LifecycleOwner)
+                || ((LifecycleOwner) context).getLifecycle().getCurrentState() == Lifecycle.State.DESTROYED) {
+            return false;
+        }
+        synchronized (this) {
+            if (maxSize == 0 || getCount(cls) + getPending(cls) >= getCapacity(cls)) {
+                return false;
+            }
+            register(context);
+            Map<Class<?>, Integer> contextPendingMap = pendingMap.get(context);
+            if (contextPendingMap == null) {
+                contextPendingMap = new HashMap<>();
+                pendingMap.put(context, contextPendingMap);
+            }
+            Integer pending = contextPendingMap.get(cls);
+            contextPendingMap.put(cls, pending == null ? 1 : pending + 1);
+        }
+        AsyncViewBindingInflate.<VB>obtain(context).inflate(cls, null, AsyncViewBindingInflate.Priority.PREFETCH, (LifecycleOwner) context,
+                new AsyncViewBindingInflate.OnInflateFinishedListener<VB>() {
+                    @Override
+                    public void onInflateFinished(@NonNull VB binding, @Nullable ViewGroup parent) {
+                        release(context, cls);
+                        put(context, cls, binding);
+                        if (onFinished != null) {
+                            onFinished.run();
+                        }
+                    }
+
+                    @Override
+                    public void onInflateError(Exception e) {
+                        release(context, cls);
+                        if (onFinished != null) {
+                            onFinished.run();
+                        }
+                    }
+                });
+        return true;
+    }
+
+    /**
+     * 取出已预加载的ViewBinding
+     *
+     * @param <VB>    ViewBinding类型参数
+     * @param context 页面使用的Context
+     * @param cls     ViewBinding类
+     * @return 已创建的实例，不存在时返回null
+     */
+    @Nullable
+    @MainThread
+    public synchronized <VB extends ViewBinding> VB acquire(@NonNull Context context, @NonNull Class<VB> cls) {
+        ArrayDeque<PoolEntry> deque = poolMap.get(cls);
+        if (deque == null) {
+            return null;
+        }
+        Iterator<PoolEntry> iterator = deque.descendingIterator();
+        while (iterator.hasNext()) {
+            PoolEntry entry = iterator.next();
+            if (entry.context == context) {
+                iterator.remove();
+                size--;
+                if (deque.isEmpty()) {
+                    poolMap.remove(cls);
+                } else {
+                    touch(cls, deque);
+                }
+                return (VB) entry.binding;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 池是否为空
+     *
+     * @return the boolean
+     */
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 清空指定Context创建的实例
+     *
+     * @param context the context
+     */
+    @MainThread
+    public synchronized void clear(@NonNull Context context) {
+        Iterator<ArrayDeque<PoolEntry>> iterator = poolMap.values().iterator();
+        while (iterator.hasNext()) {
+            ArrayDeque<PoolEntry> deque = iterator.next();
+            Iterator<PoolEntry> entryIterator = deque.iterator();
+            while (entryIterator.hasNext()) {
+                if (entryIterator.next().context == context) {
+                    entryIterator.remove();
+                    size--;
+                }
+            }
+            if (deque.isEmpty()) {
+                iterator.remove();
+            }
+        }
+        observedContextMap.remove(context);
+        pendingMap.remove(context);
+    }
+
+    /**
+     * 清空池
+     */
+    @MainThread
+    public synchronized void clear() {
+        trimToSize(0);
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        synchronized (this) {
+            if (level >= TRIM_MEMORY_RUNNING_CRITICAL) {
+                trimToSize(0);
+            } else if (level >= TRIM_MEMORY_RUNNING_MODERATE) {
+                trimToSize(maxSize / 2);
+            }
+        }
+    }
+
+    @Override
+    public void onLowMemory() {
+        clear();
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+        //配置变化后已创建的视图资源可能不再匹配
+        clear();
+    }
+
+    /**
+     * 放入池中
+     *
+     * @param context the context
+     * @param cls     the cls
+     * @param binding the binding
+     */
+    private synchronized void put(Context context, Class<?> cls, ViewBinding binding) {
+        if (!observedContextMap.containsKey(context) || getCount(cls) >= getCapacity(cls)) {
+            return;
+        }
+        ArrayDeque<PoolEntry> deque = poolMap.get(cls);
+        if (deque == null) {
+            deque = new ArrayDeque<>();
+            poolMap.put(cls, deque);
+        }
+        deque.offerLast(new PoolEntry(context, binding));
+        size++;
+        touch(cls, deque);
+        trimToSize(maxSize);
+    }
+
+    /**
+     * 标记为最近使用，移到淘汰顺序末尾
+     *
+     * @param cls   the cls
+     * @param deque the deque
+     */
+    private void touch(Class<?> cls, ArrayDeque<PoolEntry> deque) {
+        poolMap.remove(cls);
+        poolMap.put(cls, deque);
+    }
+
+    /**
+     * 按LRU淘汰至指定数量
+     *
+     * @param targetSize 目标数量
+     */
+    private void trimToSize(int targetSize) {
+        Iterator<ArrayDeque<PoolEntry>> iterator = poolMap.values().iterator();
+        while (size > targetSize && iterator.hasNext()) {
+            ArrayDeque<PoolEntry> deque = iterator.next();
+            while (size > targetSize && !deque.isEmpty()) {
+                deque.pollFirst();
+                size--;
+            }
+            if (deque.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * 注册内存回调和Context销毁监听
+     *
+     * @param context 具备生命周期的Context
+     */
+    private void register(Context context) {
+        if (!isRegistered) {
+            context.getApplicationContext().registerComponentCallbacks(this);
+            isRegistered = true;
+        }
+        if (observedContextMap.containsKey(context)) {
+            return;
+        }
+        observedContextMap.put(context, Boolean.TRUE);
+        ((LifecycleOwner) context).getLifecycle().addObserver((LifecycleEventObserver) (source, event) -> {
+            if (event == Lifecycle.Event.ON_DESTROY) {
+                clear(context);
+            }
+        });
+    }
+
+    /**
+     * 预加载结束
+     *
+     * @param context the context
+     * @param cls     the cls
+     */
+    private synchronized void release(Context context, Class<?> cls) {
+        Map<Class<?>, Integer> contextPendingMap = pendingMap.get(context);
+        if (contextPendingMap == null) {
+            return;
+        }
+        Integer pending = contextPendingMap.get(cls);
+        if (pending == null || pending <= 1) {
+            contextPendingMap.remove(cls);
+        } else {
+            contextPendingMap.put(cls, pending - 1);
+        }
+        if (contextPendingMap.isEmpty()) {
+            pendingMap.remove(context);
+        }
+    }
+
+    /**
+     * 获取池内数量
+     *
+     * @param cls the cls
+     * @return the count
+     */
+    private int getCount(Class<?> cls) {
+        ArrayDeque<PoolEntry> deque = poolMap.get(cls);
+        return deque == null ? 0 : deque.size();
+    }
+
+    /**
+     * 获取正在预加载的数量
+     *
+     * @param cls the cls
+     * @return the pending
+     */
+    private int getPending(Class<?> cls) {
+        int count = 0;
+        for (Map<Class<?>, Integer> contextPendingMap : pendingMap.values()) {
+            Integer pending = contextPendingMap.get(cls);
+            count += pending == null ? 0 : pending;
+        }
+        return count;
+    }
+
+    /**
+     * 获取容量
+     *
+     * @param cls the cls
+     * @return the capacity
+     */
+    private int getCapacity(Class<?> cls) {
+        Integer capacity = capacityMap.get(cls);
+        return capacity == null ? DEFAULT_CAPACITY : capacity;
+    }
+}
@@ -0,0 +1,265 @@
+package cn.com.shadowless.baseview.base.widget;
+
+import android.app.Activity;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleOwner;
+import androidx.lifecycle.LifecycleRegistry;
+import androidx.viewbinding.ViewBinding;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import cn.com.shadowless.baseview.manager.MultiDataViewDataManager;
+import cn.com.shadowless.baseview.manager.VmObjManager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ViewModel重建测试
+ * <p>
+ * 按BaseVmActivity的调用顺序驱动ViewModel：配置变更保留数据时只重新绑定，
+ * 正常销毁后被新页面复用时重新创建并初始化数据，推迟的onTerminate在ViewModel清除时执行。
+ * </p>
+ *
+ * @author sHadowLess
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class BaseViewModelTest {
+
+    /**
+     * 数据键
+     */
+    private static final MultiDataViewDataManager.DataKey<String> KEY = new MultiDataViewDataManager.DataKey<>();
+
+    /**
+     * 可控制是否正在配置变更的Activity
+     */
+    public static class TestActivity extends Activity {
+
+        private boolean isChanging = false;
+
+        @Override
+        public boolean isChangingConfigurations() {
+            return isChanging;
+        }
+    }
+
+    /**
+     * 测试用页面
+     */
+    private static final class TestOwner implements LifecycleOwner {
+
+        private final LifecycleRegistry registry = new LifecycleRegistry(this);
+
+        private TestOwner() {
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_CREATE);
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_START);
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_RESUME);
+        }
+
+        private void destroy() {
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_PAUSE);
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_STOP);
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_DESTROY);
+        }
+
+        @NonNull
+        @Override
+        public Lifecycle getLifecycle() {
+            return registry;
+        }
+    }
+
+    /**
+     * 测试用ViewModel
+     */
+    private static final class TestViewModel extends BaseMutualViewModel<ViewBinding, BaseMutableLiveData> {
+
+        private final boolean isRebind;
+
+        private int createdCount = 0;
+
+        private int rebindCount = 0;
+
+        private int initDataCount = 0;
+
+        private int terminateCount = 0;
+
+        private TestViewModel(boolean isRebind) {
+            this.isRebind = isRebind;
+        }
+
+        @Override
+        public boolean isRebindOnRecreate() {
+            return isRebind;
+        }
+
+        @Override
+        public void onModelCreated() {
+            createdCount++;
+            super.onModelCreated();
+        }
+
+        @Override
+        public void onModelRebind() {
+            rebindCount++;
+            super.onModelRebind();
+        }
+
+        @Override
+        public void onModelInitView() {
+
+        }
+
+        @Override
+        public void onModelInitListener() {
+
+        }
+
+        @Override
+        public void onModelInitData() {
+            initDataCount++;
+            getViewDataManager().setData(KEY, "data" + initDataCount);
+        }
+
+        @Override
+        public void onTerminate() {
+            terminateCount++;
+        }
+
+        @Nullable
+        @Override
+        public BaseMutableLiveData getMutable() {
+            return null;
+        }
+    }
+
+    /**
+     * 按BaseVmActivity的顺序将ViewModel绑定到页面
+     *
+     * @param vm       ViewModel
+     * @param activity Activity
+     * @param page     页面
+     * @return 新视图绑定到的数据
+     */
+    private static List<String> host(TestViewModel vm, Activity activity, TestOwner page) {
+        VmObjManager<ViewBinding> manager = new VmObjManager<>();
+        manager.setScope(activity, null, page, null);
+        vm.update(manager);
+        vm.performModelCreated();
+        if (vm.markModelDataInit()) {
+            vm.onModelInitData();
+        }
+        List<String> bound = new ArrayList<>();
+        vm.getViewDataManager().setBinder(KEY, (k, data) -> bound.add(data));
+        vm.getViewDataManager().setViewBinding();
+        return bound;
+    }
+
+    @Test
+    public void rebindAfterConfigChange() {
+        TestActivity activity = Robolectric.buildActivity(TestActivity.class).get();
+        TestViewModel vm = new TestViewModel(true);
+        TestOwner oldPage = new TestOwner();
+        host(vm, activity, oldPage);
+
+        activity.isChanging = true;
+        oldPage.destroy();
+        activity.isChanging = false;
+        assertEquals(0, vm.terminateCount);
+
+        List<String> bound = host(vm, activity, new TestOwner());
+        assertEquals(1, vm.createdCount);
+        assertEquals(1, vm.rebindCount);
+        assertEquals(1, vm.initDataCount);
+        assertEquals(1, bound.size());
+        assertEquals("data1", bound.get(0));
+    }
+
+    @Test
+    public void fullInitWhenRehostedAfterNormalDestroy() {
+        TestActivity activity = Robolectric.buildActivity(TestActivity.class).get();
+        TestViewModel vm = new TestViewModel(true);
+        TestOwner oldPage = new TestOwner();
+        host(vm, activity, oldPage);
+
+        //如Activity作用域的ViewModel被新的Fragment实例复用
+        oldPage.destroy();
+        assertEquals(1, vm.terminateCount);
+
+        List<String> bound = host(vm, activity, new TestOwner());
+        assertEquals(2, vm.createdCount);
+        assertEquals(0, vm.rebindCount);
+        assertEquals(2, vm.initDataCount);
+        assertEquals(1, bound.size());
+        assertEquals("data2", bound.get(0));
+    }
+
+    @Test
+    public void fullInitAfterRebindThenNormalDestroy() {
+        TestActivity activity = Robolectric.buildActivity(TestActivity.class).get();
+        TestViewModel vm = new TestViewModel(true);
+        TestOwner firstPage = new TestOwner();
+        host(vm, activity, firstPage);
+        activity.isChanging = true;
+        firstPage.destroy();
+        activity.isChanging = false;
+        TestOwner secondPage = new TestOwner();
+        host(vm, activity, secondPage);
+
+        secondPage.destroy();
+        List<String> bound = host(vm, activity, new TestOwner());
+        assertEquals(2, vm.createdCount);
+        assertEquals(1, vm.rebindCount);
+        assertEquals(2, vm.initDataCount);
+        assertEquals("data2", bound.get(0));
+    }
+
+    @Test
+    public void deferredTerminateRunsOnCleared() {
+        TestActivity activity = Robolectric.buildActivity(TestActivity.class).get();
+        TestViewModel vm = new TestViewModel(true);
+        TestOwner page = new TestOwner();
+        host(vm, activity, page);
+
+        activity.isChanging = true;
+        page.destroy();
+        assertEquals(0, vm.terminateCount);
+
+        vm.onCleared();
+        assertEquals(1, vm.terminateCount);
+        vm.onCleared();
+        assertEquals(1, vm.terminateCount);
+    }
+
+    @Test
+    public void terminateImmediatelyWhenRebindDisabled() {
+        TestActivity activity = Robolectric.buildActivity(TestActivity.class).get();
+        TestViewModel vm = new TestViewModel(false);
+        TestOwner oldPage = new TestOwner();
+        host(vm, activity, oldPage);
+
+        activity.isChanging = true;
+        oldPage.destroy();
+        activity.isChanging = false;
+        assertEquals(1, vm.terminateCount);
+
+        host(vm, activity, new TestOwner());
+        assertEquals(2, vm.createdCount);
+        assertEquals(0, vm.rebindCount);
+        assertEquals(2, vm.initDataCount);
+        vm.onCleared();
+        assertTrue(vm.terminateCount == 1);
+    }
+}
@@ -0,0 +1,111 @@
+package cn.com.shadowless.baseview.manager;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleOwner;
+import androidx.lifecycle.LifecycleRegistry;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 多数据视图数据管理器测试
+ * <p>
+ * 模拟旋转屏幕：旧页面销毁后使用新页面重新绑定，开启保留时已加载的数据应绑定到新视图。
+ * </p>
+ *
+ * @author sHadowLess
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class MultiDataViewDataManagerTest {
+
+    /**
+     * 测试用页面
+     */
+    private static final class TestOwner implements LifecycleOwner {
+
+        private final LifecycleRegistry registry = new LifecycleRegistry(this);
+
+        private TestOwner() {
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_CREATE);
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_START);
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_RESUME);
+        }
+
+        private void destroy() {
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_PAUSE);
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_STOP);
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_DESTROY);
+        }
+
+        @NonNull
+        @Override
+        public Lifecycle getLifecycle() {
+            return registry;
+        }
+    }
+
+    @Test
+    public void rebindAfterRotationWhenRetained() {
+        MultiDataViewDataManager.DataKey<String> key = new MultiDataViewDataManager.DataKey<>();
+        MultiDataViewDataManager manager = new MultiDataViewDataManager();
+        List<String> oldBound = new ArrayList<>();
+        List<String> newBound = new ArrayList<>();
+
+        TestOwner oldPage = new TestOwner();
+        manager.bindLifecycleOwner(oldPage, () -> true);
+        manager.setData(key, "data");
+        manager.setBinder(key, (k, data) -> oldBound.add(data));
+        manager.setViewBinding();
+        assertEquals(1, oldBound.size());
+
+        //旋转屏幕，旧页面销毁
+        oldPage.destroy();
+
+        //与BaseMutualViewModel.onModelRebind一致，且不再执行onModelInitData
+        TestOwner newPage = new TestOwner();
+        manager.reset();
+        manager.resetAllBindState();
+        manager.bindLifecycleOwner(newPage, () -> true);
+        manager.setBinder(key, (k, data) -> newBound.add(data));
+        manager.setViewBinding();
+
+        assertEquals(1, newBound.size());
+        assertEquals("data", newBound.get(0));
+        assertEquals(1, oldBound.size());
+        assertTrue(manager.isBindingCompleted(key));
+    }
+
+    @Test
+    public void clearDataWhenNotRetained() {
+        MultiDataViewDataManager.DataKey<String> key = new MultiDataViewDataManager.DataKey<>();
+        MultiDataViewDataManager manager = new MultiDataViewDataManager();
+        List<String> newBound = new ArrayList<>();
+
+        TestOwner oldPage = new TestOwner();
+        manager.bindLifecycleOwner(oldPage, () -> false);
+        manager.setData(key, "data");
+        manager.setBinder(key, (k, data) -> {
+        });
+        manager.setViewBinding();
+        oldPage.destroy();
+
+        TestOwner newPage = new TestOwner();
+        manager.reset();
+        manager.resetAllBindState();
+        manager.bindLifecycleOwner(newPage, () -> false);
+        manager.setBinder(key, (k, data) -> newBound.add(data));
+        manager.setViewBinding();
+
+        assertTrue(newBound.isEmpty());
+    }
+}
@@ -0,0 +1,338 @@
+package cn.com.shadowless.baseview.utils;
+
+import android.os.Looper;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleOwner;
+import androidx.lifecycle.LifecycleRegistry;
+import androidx.viewbinding.ViewBinding;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import cn.com.shadowless.baseview.manager.ViewBindingFactoryManager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * 异步布局填充器测试
+ * <p>
+ * 通过注册的工厂控制后台创建何时完成：超时后改为主线程创建且丢弃后台的迟到结果，
+ * 生命周期销毁后不再回调，排队中的请求可提升优先级。
+ * </p>
+ *
+ * @author sHadowLess
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class AsyncViewBindingInflateTest {
+
+    /**
+     * 后台完成消息，与AsyncViewBindingInflate.MSG_INFLATE一致
+     */
+    private static final int MSG_INFLATE = 0;
+
+    /**
+     * 等待后台线程的最长时间，单位毫秒
+     */
+    private static final long WAIT_MILLIS = 5000;
+
+    /**
+     * 后台创建放行信号
+     */
+    private static volatile Semaphore sGate;
+
+    /**
+     * 后台开始创建的信号
+     */
+    private static volatile CountDownLatch sStarted;
+
+    /**
+     * 后台完成创建的次数
+     */
+    private static volatile AtomicInteger sFinished;
+
+    /**
+     * 视图根布局
+     */
+    private static volatile View sRoot;
+
+    /**
+     * 后台创建时阻塞直到放行的ViewBinding
+     */
+    private static final class BlockBinding implements ViewBinding {
+
+        private final Thread thread = Thread.currentThread();
+
+        @NonNull
+        @Override
+        public View getRoot() {
+            return sRoot;
+        }
+    }
+
+    /**
+     * 直接创建的ViewBinding
+     */
+    private static final class TestBinding implements ViewBinding {
+
+        @NonNull
+        @Override
+        public View getRoot() {
+            return sRoot;
+        }
+    }
+
+    /**
+     * 测试用页面
+     */
+    private static final class TestOwner implements LifecycleOwner {
+
+        private final LifecycleRegistry registry = new LifecycleRegistry(this);
+
+        private TestOwner() {
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_CREATE);
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_START);
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_RESUME);
+        }
+
+        private void destroy() {
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_PAUSE);
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_STOP);
+            registry.handleLifecycleEvent(Lifecycle.Event.ON_DESTROY);
+        }
+
+        @NonNull
+        @Override
+        public Lifecycle getLifecycle() {
+            return registry;
+        }
+    }
+
+    /**
+     * 记录回调的监听
+     *
+     * @param <VB> ViewBinding类型参数
+     */
+    private static final class RecordListener<VB extends ViewBinding> implements AsyncViewBindingInflate.OnInflateFinishedListener<VB> {
+
+        private final String name;
+
+        private final List<String> order;
+
+        private final List<VB> bindings = new ArrayList<>();
+
+        private RecordListener(String name, List<String> order) {
+            this.name = name;
+            this.order = order;
+        }
+
+        @Override
+        public void onInflateFinished(@NonNull VB binding, @Nullable ViewGroup parent) {
+            bindings.add(binding);
+            order.add(name);
+        }
+
+        @Override
+        public void onInflateError(Exception e) {
+            fail("加载失败：" + e);
+        }
+    }
+
+    /**
+     * 等待条件
+     */
+    private interface Condition {
+        /**
+         * 条件是否满足
+         *
+         * @return the boolean
+         */
+        boolean isMet();
+    }
+
+    @Before
+    public void setUp() {
+        sGate = new Semaphore(0);
+        sStarted = new CountDownLatch(1);
+        sFinished = new AtomicInteger();
+        sRoot = new View(RuntimeEnvironment.getApplication());
+        ViewBindingFactoryManager.INSTANCE.register(BlockBinding.class, (inflater, parent, attachToParent) -> {
+            if (Looper.myLooper() == Looper.getMainLooper()) {
+                return new BlockBinding();
+            }
+            sStarted.countDown();
+            try {
+                if (!sGate.tryAcquire(WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    throw new IllegalStateException("后台创建未放行");
+                }
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            sFinished.incrementAndGet();
+            return new BlockBinding();
+        });
+        ViewBindingFactoryManager.INSTANCE.register(TestBinding.class, (inflater, parent, attachToParent) -> new TestBinding());
+    }
+
+    @After
+    public void tearDown() {
+        //放行仍在阻塞的后台任务，避免占用共享线程池
+        sGate.release(Integer.MAX_VALUE / 2);
+    }
+
+    @Test
+    public void fallbackToMainThreadOnTimeout() throws InterruptedException {
+        AsyncViewBindingInflate<BlockBinding> inflate = new AsyncViewBindingInflate<>(RuntimeEnvironment.getApplication());
+        RecordListener<BlockBinding> listener = new RecordListener<>("block", new ArrayList<>());
+        inflate.inflate(BlockBinding.class, null, AsyncViewBindingInflate.Priority.VISIBLE, null, 100, listener);
+        assertTrue(sStarted.await(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+
+        shadowOf(Looper.getMainLooper()).idleFor(99, TimeUnit.MILLISECONDS);
+        assertEquals(0, listener.bindings.size());
+        shadowOf(Looper.getMainLooper()).idleFor(1, TimeUnit.MILLISECONDS);
+        assertEquals(1, listener.bindings.size());
+        assertSame(Thread.currentThread(), listener.bindings.get(0).thread);
+    }
+
+    @Test
+    public void dropLateResultAfterFallback() throws InterruptedException {
+        AsyncViewBindingInflate<BlockBinding> inflate = new AsyncViewBindingInflate<>(RuntimeEnvironment.getApplication());
+        RecordListener<BlockBinding> listener = new RecordListener<>("block", new ArrayList<>());
+        inflate.inflate(BlockBinding.class, null, AsyncViewBindingInflate.Priority.VISIBLE, null, 100, listener);
+        assertTrue(sStarted.await(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+        shadowOf(Looper.getMainLooper()).idleFor(100, TimeUnit.MILLISECONDS);
+        BlockBinding fallback = listener.bindings.get(0);
+
+        sGate.release();
+        waitUntil(() -> inflate.mHandler.hasMessages(MSG_INFLATE));
+        shadowOf(Looper.getMainLooper()).idle();
+        assertEquals(1, sFinished.get());
+        assertEquals(1, listener.bindings.size());
+        assertSame(fallback, listener.bindings.get(0));
+    }
+
+    @Test
+    public void dropRunningRequestOnDestroy() throws InterruptedException {
+        AsyncViewBindingInflate<BlockBinding> inflate = new AsyncViewBindingInflate<>(RuntimeEnvironment.getApplication());
+        RecordListener<BlockBinding> listener = new RecordListener<>("block", new ArrayList<>());
+        TestOwner owner = new TestOwner();
+        inflate.inflate(BlockBinding.class, null, AsyncViewBindingInflate.Priority.VISIBLE, owner, 100, listener);
+        assertTrue(sStarted.await(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+
+        owner.destroy();
+        sGate.release();
+        waitUntil(() -> inflate.mHandler.hasMessages(MSG_INFLATE));
+        //销毁时已移除超时消息，不会再在主线程创建
+        shadowOf(Looper.getMainLooper()).idleFor(100, TimeUnit.MILLISECONDS);
+        assertEquals(1, sFinished.get());
+        assertEquals(0, listener.bindings.size());
+    }
+
+    @Test
+    public void removeQueuedRequestOnDestroy() throws InterruptedException {
+        blockAllThreads();
+        AsyncViewBindingInflate<TestBinding> inflate = new AsyncViewBindingInflate<>(RuntimeEnvironment.getApplication());
+        RecordListener<TestBinding> listener = new RecordListener<>("test", new ArrayList<>());
+        TestOwner owner = new TestOwner();
+        inflate.inflate(TestBinding.class, null, AsyncViewBindingInflate.Priority.PREFETCH, owner, listener);
+
+        owner.destroy();
+        //已移出线程池，无法再提升
+        assertFalse(inflate.promote(listener, AsyncViewBindingInflate.Priority.VISIBLE));
+        sGate.release(Integer.MAX_VALUE / 2);
+        shadowOf(Looper.getMainLooper()).idle();
+        assertEquals(0, listener.bindings.size());
+    }
+
+    @Test
+    public void skipRequestFromDestroyedOwner() {
+        AsyncViewBindingInflate<TestBinding> inflate = new AsyncViewBindingInflate<>(RuntimeEnvironment.getApplication());
+        RecordListener<TestBinding> listener = new RecordListener<>("test", new ArrayList<>());
+        TestOwner owner = new TestOwner();
+        owner.destroy();
+        inflate.inflate(TestBinding.class, null, AsyncViewBindingInflate.Priority.VISIBLE, owner, listener);
+
+        assertFalse(inflate.promote(listener, AsyncViewBindingInflate.Priority.VISIBLE));
+        shadowOf(Looper.getMainLooper()).idle();
+        assertEquals(0, listener.bindings.size());
+    }
+
+    @Test
+    public void promoteQueuedRequest() throws InterruptedException {
+        blockAllThreads();
+        AsyncViewBindingInflate<TestBinding> inflate = new AsyncViewBindingInflate<>(RuntimeEnvironment.getApplication());
+        List<String> order = new ArrayList<>();
+        RecordListener<TestBinding> offscreen = new RecordListener<>("offscreen", order);
+        RecordListener<TestBinding> prefetch = new RecordListener<>("prefetch", order);
+        inflate.inflate(TestBinding.class, null, AsyncViewBindingInflate.Priority.OFFSCREEN, null, offscreen);
+        inflate.inflate(TestBinding.class, null, AsyncViewBindingInflate.Priority.PREFETCH, null, prefetch);
+
+        //不高于原优先级时不处理
+        assertFalse(inflate.promote(offscreen, AsyncViewBindingInflate.Priority.PREFETCH));
+        assertTrue(inflate.promote(prefetch, AsyncViewBindingInflate.Priority.VISIBLE));
+
+        //只放行一个线程，按队列顺序依次执行
+        sGate.release();
+        waitUntil(() -> {
+            shadowOf(Looper.getMainLooper()).idle();
+            return order.size() == 2;
+        });
+        assertEquals("prefetch", order.get(0));
+        assertEquals("offscreen", order.get(1));
+    }
+
+    /**
+     * 占满线程池的核心线程，使后续请求在队列中等待
+     *
+     * @throws InterruptedException the interrupted exception
+     */
+    private void blockAllThreads() throws InterruptedException {
+        //与AsyncViewBindingInflate.Dispatcher的核心线程数一致，无界队列下线程数不会超过核心线程数
+        int corePoolSize = Math.max(2, Math.min(Runtime.getRuntime().availableProcessors() - 1, 4));
+        sStarted = new CountDownLatch(corePoolSize);
+        AsyncViewBindingInflate<BlockBinding> inflate = new AsyncViewBindingInflate<>(RuntimeEnvironment.getApplication());
+        for (int i = 0; i < corePoolSize; i++) {
+            inflate.inflate(BlockBinding.class, null, AsyncViewBindingInflate.Priority.VISIBLE, null, 0,
+                    new RecordListener<>("block", new ArrayList<>()));
+        }
+        assertTrue(sStarted.await(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * 等待后台线程使条件满足
+     *
+     * @param condition 条件
+     * @throws InterruptedException the interrupted exception
+     */
+    private static void waitUntil(Condition condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!condition.isMet()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("等待超时");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
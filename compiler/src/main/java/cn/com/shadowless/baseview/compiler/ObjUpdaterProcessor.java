@@ -0,0 +1,215 @@
+package cn.com.shadowless.baseview.compiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * 对象更新器注解处理器
+ * <p>
+ * 扫描当前模块中实现了UpdateObjEvent的类（BaseViewModel、BasePresenter、BaseMutableLiveData子类等），
+ * 为每个类输出只处理其自身声明的相关字段的更新器：实现UpdateObjEvent的字段直接调用update，
+ * 被@UpdateReflect注解标记的字段交由反射规则处理，其余字段不再访问。
+ * 非私有字段直接读取，私有字段在生成类初始化时查找一次并缓存。
+ * 运行时由ObjUpdaterManager按类名加载，找不到时回退到反射遍历。
+ * </p>
+ *
+ * @author sHadowLess
+ */
+public class ObjUpdaterProcessor extends AbstractProcessor {
+
+    /**
+     * 生成类后缀，需与运行时ObjUpdater.GENERATED_SUFFIX保持一致
+     */
+    private static final String GENERATED_SUFFIX = "_ObjUpdater";
+
+    /**
+     * 更新器接口
+     */
+    private static final String UPDATER_INTERFACE = "cn.com.shadowless.baseview.factory.ObjUpdater";
+
+    /**
+     * 更新器管理器
+     */
+    private static final String UPDATER_MANAGER = "cn.com.shadowless.baseview.manager.ObjUpdaterManager";
+
+    /**
+     * 对象更新事件接口
+     */
+    private static final String UPDATE_OBJ_EVENT = "cn.com.shadowless.baseview.event.UpdateObjEvent";
+
+    /**
+     * 更新反射注解
+     */
+    private static final String UPDATE_REFLECT = "cn.com.shadowless.baseview.annotation.UpdateReflect";
+
+    /**
+     * 已生成更新器的类
+     */
+    private final Set<String> generatedTypes = new HashSet<>();
+
+    /**
+     * The Types.
+     */
+    private Types types;
+
+    /**
+     * The Elements.
+     */
+    private Elements elements;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        types = processingEnv.getTypeUtils();
+        elements = processingEnv.getElementUtils();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement updateObjEvent = elements.getTypeElement(UPDATE_OBJ_EVENT);
+        if (updateObjEvent == null) {
+            return false;
+        }
+        TypeMirror eventType = types.erasure(updateObjEvent.asType());
+        for (TypeElement element : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collectTypes(element, eventType);
+        }
+        return false;
+    }
+
+    /**
+     * 遍历源码类及其内部类，为可访问的UpdateObjEvent实现类输出更新器
+     *
+     * @param element   类元素
+     * @param eventType UpdateObjEvent擦除后的类型
+     */
+    private void collectTypes(TypeElement element, TypeMirror eventType) {
+        if (element.getModifiers().contains(Modifier.PRIVATE)) {
+            return;
+        }
+        if (element.getKind() == ElementKind.CLASS
+                && types.isAssignable(types.erasure(element.asType()), eventType)
+                && generatedTypes.add(element.getQualifiedName().toString())) {
+            writeUpdater(element, eventType);
+        }
+        for (TypeElement inner : ElementFilter.typesIn(element.getEnclosedElements())) {
+            collectTypes(inner, eventType);
+        }
+    }
+
+    /**
+     * 字段是否被@UpdateReflect注解标记
+     *
+     * @param field 字段元素
+     * @return the boolean
+     */
+    private boolean isUpdateReflect(VariableElement field) {
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            Element annotation = mirror.getAnnotationType().asElement();
+            if (annotation instanceof TypeElement && ((TypeElement) annotation).getQualifiedName().contentEquals(UPDATE_REFLECT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 输出更新器类
+     * <p>
+     * 字段的判断规则与运行时反射遍历保持一致：先判断注解，再判断字段声明类型。
+     * </p>
+     *
+     * @param type      目标类元素
+     * @param eventType UpdateObjEvent擦除后的类型
+     */
+    private void writeUpdater(TypeElement type, TypeMirror eventType) {
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String typeName = type.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + GENERATED_SUFFIX;
+        String updaterName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        StringBuilder fieldBuilder = new StringBuilder();
+        StringBuilder bodyBuilder = new StringBuilder();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            String method;
+            if (isUpdateReflect(field)) {
+                method = "updateReflect";
+            } else if (types.isAssignable(types.erasure(field.asType()), eventType)) {
+                method = "updateObj";
+            } else {
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            boolean isStatic = field.getModifiers().contains(Modifier.STATIC);
+            String value;
+            if (field.getModifiers().contains(Modifier.PRIVATE)) {
+                String fieldName = "FIELD_" + name;
+                fieldBuilder.append("    private static final java.lang.reflect.Field ").append(fieldName)
+                        .append(" = ").append(UPDATER_MANAGER).append(".getField(")
+                        .append(typeName).append(".class, \"").append(name).append("\");\n\n");
+                value = UPDATER_MANAGER + ".getValue(" + fieldName + ", " + (isStatic ? "null" : "obj") + ")";
+            } else {
+                value = (isStatic ? typeName : "obj") + "." + name;
+            }
+            bodyBuilder.append("        ").append(UPDATER_MANAGER).append(".").append(method).append("(").append(value)
+                    .append("updateReflect".equals(method) ? ", manager, events);\n" : ", manager);\n");
+        }
+        StringBuilder builder = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            builder.append("package ").append(packageName).append(";\n\n");
+        }
+        builder.append("/**\n")
+                .append(" * ").append(type.getSimpleName()).append("对象更新器，由BaseView编译期生成，请勿修改\n")
+                .append(" */\n")
+                .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements ").append(UPDATER_INTERFACE).append("<").append(typeName).append("> {\n\n")
+                .append(fieldBuilder)
+                .append("    @Override\n")
+                .append("    public void update(").append(typeName).append(" obj, ")
+                .append("cn.com.shadowless.baseview.manager.VmObjManager<? extends androidx.viewbinding.ViewBinding> manager, ")
+                .append("java.util.List<cn.com.shadowless.baseview.event.UpdateReflectEvent> events) {\n")
+                .append(bodyBuilder)
+                .append("    }\n")
+                .append("}\n");
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(updaterName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(builder.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "生成" + updaterName + "失败，将回退为反射更新：" + e.getMessage(), type);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package cn.com.shadowless.baseview.compiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * ViewBinding工厂注解处理器
+ * <p>
+ * 扫描当前模块中实现了InitViewBinding的基类子类（BaseVmActivity、BaseVmFragment、BaseDialog等），
+ * 解析其绑定的ViewBinding泛型，为当前模块内生成的ViewBinding输出直接调用静态inflate方法的工厂类，
+ * 运行时由ViewBindingFactoryManager按类名加载，找不到时回退到反射。
+ * </p>
+ *
+ * @author sHadowLess
+ */
+public class ViewBindingFactoryProcessor extends AbstractProcessor {
+
+    /**
+     * 生成类后缀，需与运行时ViewBindingFactory.GENERATED_SUFFIX保持一致
+     */
+    private static final String GENERATED_SUFFIX = "_ViewBindingFactory";
+
+    /**
+     * 工厂接口
+     */
+    private static final String FACTORY_INTERFACE = "cn.com.shadowless.baseview.factory.ViewBindingFactory";
+
+    /**
+     * 视图绑定接口
+     */
+    private static final String INIT_VIEW_BINDING = "cn.com.shadowless.baseview.event.ViewPublicEvent.InitViewBinding";
+
+    /**
+     * ViewBinding接口
+     */
+    private static final String VIEW_BINDING = "androidx.viewbinding.ViewBinding";
+
+    /**
+     * LayoutInflater类
+     */
+    private static final String LAYOUT_INFLATER = "android.view.LayoutInflater";
+
+    /**
+     * ViewGroup类
+     */
+    private static final String VIEW_GROUP = "android.view.ViewGroup";
+
+    /**
+     * 当前编译中作为源码参与编译的类
+     */
+    private final Set<String> sourceTypes = new HashSet<>();
+
+    /**
+     * 已生成工厂的ViewBinding
+     */
+    private final Set<String> generatedTypes = new HashSet<>();
+
+    /**
+     * The Types.
+     */
+    private Types types;
+
+    /**
+     * The Elements.
+     */
+    private Elements elements;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        types = processingEnv.getTypeUtils();
+        elements = processingEnv.getElementUtils();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement initViewBinding = elements.getTypeElement(INIT_VIEW_BINDING);
+        if (initViewBinding == null) {
+            return false;
+        }
+        Set<TypeElement> hosts = new HashSet<>();
+        for (TypeElement element : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collectTypes(element, hosts);
+        }
+        for (TypeElement host : hosts) {
+            TypeElement binding = resolveBinding(host, initViewBinding);
+            if (binding == null) {
+                continue;
+            }
+            String bindingName = binding.getQualifiedName().toString();
+            if (!sourceTypes.contains(bindingName) || !generatedTypes.add(bindingName)) {
+                continue;
+            }
+            if (!hasInflateMethod(binding)) {
+                continue;
+            }
+            writeFactory(binding, host);
+        }
+        return false;
+    }
+
+    /**
+     * 收集源码类及其内部类
+     *
+     * @param element 类元素
+     * @param hosts   可能的宿主类
+     */
+    private void collectTypes(TypeElement element, Set<TypeElement> hosts) {
+        sourceTypes.add(element.getQualifiedName().toString());
+        if (element.getKind() == ElementKind.CLASS && !element.getModifiers().contains(Modifier.ABSTRACT)) {
+            hosts.add(element);
+        }
+        for (TypeElement inner : ElementFilter.typesIn(element.getEnclosedElements())) {
+            collectTypes(inner, hosts);
+        }
+    }
+
+    /**
+     * 解析宿主类绑定的ViewBinding
+     * <p>
+     * 沿父类型逐级展开并代入泛型实参，直到找到InitViewBinding，
+     * 仅当其实参为具体的ViewBinding子类时返回。
+     * </p>
+     *
+     * @param host            宿主类
+     * @param initViewBinding InitViewBinding接口
+     * @return ViewBinding类元素，无法静态确定时返回null
+     */
+    private TypeElement resolveBinding(TypeElement host, TypeElement initViewBinding) {
+        Deque<TypeMirror> queue = new ArrayDeque<>();
+        Set<String> visited = new HashSet<>();
+        queue.add(host.asType());
+        while (!queue.isEmpty()) {
+            TypeMirror type = queue.poll();
+            if (type.getKind() != TypeKind.DECLARED || !visited.add(type.toString())) {
+                continue;
+            }
+            DeclaredType declared = (DeclaredType) type;
+            if (initViewBinding.equals(declared.asElement())) {
+                List<? extends TypeMirror> args = declared.getTypeArguments();
+                if (args.size() != 1 || args.get(0).getKind() != TypeKind.DECLARED) {
+                    return null;
+                }
+                TypeElement binding = (TypeElement) ((DeclaredType) args.get(0)).asElement();
+                if (VIEW_BINDING.contentEquals(binding.getQualifiedName())) {
+                    return null;
+                }
+                return binding;
+            }
+            queue.addAll(types.directSupertypes(type));
+        }
+        return null;
+    }
+
+    /**
+     * 判断ViewBinding是否存在 inflate(LayoutInflater, ViewGroup, boolean) 静态方法
+     * <p>
+     * merge根布局生成的ViewBinding不存在该方法，保持原有反射行为。
+     * </p>
+     *
+     * @param binding ViewBinding类元素
+     * @return 是否存在
+     */
+    private boolean hasInflateMethod(TypeElement binding) {
+        for (ExecutableElement method : ElementFilter.methodsIn(binding.getEnclosedElements())) {
+            if (!method.getSimpleName().contentEquals("inflate")) {
+                continue;
+            }
+            Set<Modifier> modifiers = method.getModifiers();
+            if (!modifiers.contains(Modifier.STATIC) || !modifiers.contains(Modifier.PUBLIC)) {
+                continue;
+            }
+            List<? extends VariableElement> params = method.getParameters();
+            if (params.size() == 3
+                    && LAYOUT_INFLATER.equals(types.erasure(params.get(0).asType()).toString())
+                    && VIEW_GROUP.equals(types.erasure(params.get(1).asType()).toString())
+                    && params.get(2).asType().getKind() == TypeKind.BOOLEAN) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 输出工厂类
+     *
+     * @param binding ViewBinding类元素
+     * @param host    宿主类
+     */
+    private void writeFactory(TypeElement binding, Element host) {
+        String packageName = elements.getPackageOf(binding).getQualifiedName().toString();
+        String bindingName = binding.getQualifiedName().toString();
+        String simpleName = binding.getSimpleName() + GENERATED_SUFFIX;
+        String factoryName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        StringBuilder builder = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            builder.append("package ").append(packageName).append(";\n\n");
+        }
+        builder.append("/**\n")
+                .append(" * ").append(binding.getSimpleName()).append("创建工厂，由BaseView编译期生成，请勿修改\n")
+                .append(" */\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements ").append(FACTORY_INTERFACE).append("<").append(bindingName).append("> {\n\n")
+                .append("    @Override\n")
+                .append("    public ").append(bindingName).append(" inflate(")
+                .append(LAYOUT_INFLATER).append(" inflater, ")
+                .append(VIEW_GROUP).append(" parent, boolean attachToParent) {\n")
+                .append("        return ").append(bindingName).append(".inflate(inflater, parent, attachToParent);\n")
+                .append("    }\n")
+                .append("}\n");
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(factoryName, binding, host);
+            try (Writer writer = file.openWriter()) {
+                writer.write(builder.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "生成" + factoryName + "失败，将回退为反射创建：" + e.getMessage(), host);
+        }
+    }
+}